@@ -0,0 +1,114 @@
+package com.wellalmeida31.redshift_client.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wellalmeida31.redshift_client.tools.EpochMilliLocalDateTimeDeserializer;
+import org.h2.tools.SimpleResultSet;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * Dados comuns dos benchmarks: um {@link SimpleResultSet} do H2 em memória, sem rede nem banco, com as
+ * colunas de um pedido, e as classes de destino do mapeamento.
+ */
+final class BenchmarkRows {
+
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 5, 19, 10, 30, 15, 123_000_000);
+
+    private BenchmarkRows() {
+    }
+
+    static SimpleResultSet orders(int rows) {
+        SimpleResultSet rs = new SimpleResultSet();
+        rs.setAutoClose(false);
+        rs.addColumn("id", Types.BIGINT, 19, 0);
+        rs.addColumn("customer", Types.VARCHAR, 255, 0);
+        rs.addColumn("amount", Types.NUMERIC, 18, 2);
+        rs.addColumn("quantity", Types.INTEGER, 10, 0);
+        rs.addColumn("active", Types.BOOLEAN, 1, 0);
+        rs.addColumn("createdAt", Types.TIMESTAMP, 26, 6);
+        for (int i = 0; i < rows; i++) {
+            rs.addRow((long) i, "customer-" + i, BigDecimal.valueOf(i * 100L + 99, 2), i % 50, i % 2 == 0,
+                    Timestamp.valueOf(CREATED_AT.plusSeconds(i)));
+        }
+        return rs;
+    }
+
+    /**
+     * {@code ObjectMapper} com a mesma configuração do usado pelos construtores da biblioteca.
+     */
+    static ObjectMapper libraryObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule().addDeserializer(LocalDateTime.class, new EpochMilliLocalDateTimeDeserializer()))
+                .setPropertyNamingStrategy(PropertyNamingStrategies.LOWER_CAMEL_CASE)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    public static class Order {
+        private Long id;
+        private String customer;
+        private BigDecimal amount;
+        private Integer quantity;
+        private Boolean active;
+        private LocalDateTime createdAt;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public Boolean getActive() {
+            return active;
+        }
+
+        public void setActive(Boolean active) {
+            this.active = active;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    public record OrderRecord(Long id, String customer, BigDecimal amount, Integer quantity, Boolean active,
+                              LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.wellalmeida31.redshift_client.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wellalmeida31.redshift_client.tools.EpochMilliLocalDateTimeDeserializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EpochMilliLocalDateTimeDeserializer} lendo um texto JSON e convertendo um {@link Timestamp}
+ * (o caminho de uma coluna TIMESTAMP no {@code convertValue} dos construtores), comparado ao
+ * {@code LocalDateTimeDeserializer} padrão do {@link JavaTimeModule}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EpochMilliLocalDateTimeDeserializerBenchmark {
+
+    private static final String WITH_OFFSET = "\"2025-05-19T10:30:15.123-03:00\"";
+    private static final String LOCAL = "\"2025-05-19T10:30:15.123\"";
+    private static final Timestamp TIMESTAMP = Timestamp.valueOf(LocalDateTime.of(2025, 5, 19, 10, 30, 15, 123_000_000));
+
+    private final ObjectMapper epochMilli = new ObjectMapper()
+            .registerModule(new JavaTimeModule().addDeserializer(LocalDateTime.class, new EpochMilliLocalDateTimeDeserializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper javaTime = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Benchmark
+    public LocalDateTime epochMilliText() throws JsonProcessingException {
+        return epochMilli.readValue(WITH_OFFSET, LocalDateTime.class);
+    }
+
+    @Benchmark
+    public LocalDateTime epochMilliTimestamp() {
+        return epochMilli.convertValue(TIMESTAMP, LocalDateTime.class);
+    }
+
+    @Benchmark
+    public LocalDateTime javaTimeText() throws JsonProcessingException {
+        return javaTime.readValue(LOCAL, LocalDateTime.class);
+    }
+}
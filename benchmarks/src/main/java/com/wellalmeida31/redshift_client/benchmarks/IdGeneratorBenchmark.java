@@ -0,0 +1,47 @@
+package com.wellalmeida31.redshift_client.benchmarks;
+
+import com.wellalmeida31.redshift_client.id.engine.IdGeneratorLanBased;
+import com.wellalmeida31.redshift_client.id.engine.IdGeneratorThreadSafe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de {@link IdGeneratorLanBased} e {@link IdGeneratorThreadSafe} com uma instância compartilhada,
+ * como o Hibernate usa o gerador, em uma thread e com todos os núcleos. Outras contagens: {@code -t N}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final IdGeneratorLanBased lanBased = new IdGeneratorLanBased();
+    private final IdGeneratorThreadSafe threadSafe = new IdGeneratorThreadSafe();
+
+    @Benchmark
+    @Threads(1)
+    public Object lanBasedSingleThread() {
+        return lanBased.generate(null, null);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object lanBasedAllThreads() {
+        return lanBased.generate(null, null);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object threadSafeSingleThread() {
+        return threadSafe.generate(null, null);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object threadSafeAllThreads() {
+        return threadSafe.generate(null, null);
+    }
+}
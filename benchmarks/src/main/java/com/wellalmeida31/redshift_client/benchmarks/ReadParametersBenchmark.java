@@ -0,0 +1,87 @@
+package com.wellalmeida31.redshift_client.benchmarks;
+
+import com.wellalmeida31.redshift_client.persistence.ParameterBinder;
+import com.wellalmeida31.redshift_client.persistence.RedshiftFunctionalJdbc;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vínculo de uma linha de parâmetros em um {@link PreparedStatement} do H2 em memória (modo PostgreSQL):
+ * {@link RedshiftFunctionalJdbc#readParameters(List)} como chamado pelos construtores, o
+ * {@link ParameterBinder} já resolvido e o {@code switch} por valor usado antes dele.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadParametersBenchmark {
+
+    private static final List<Object> ATTRIBUTES = Arrays.asList(42L, "customer-42", 7, 19.9d, true,
+            Timestamp.valueOf(BenchmarkRows.CREATED_AT), BenchmarkRows.CREATED_AT, null);
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private ParameterBinder binder;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:parameters;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE IF NOT EXISTS orders (id BIGINT, customer VARCHAR(255), quantity INTEGER, "
+                    + "score DOUBLE PRECISION, active BOOLEAN, created_at TIMESTAMP, updated_at TIMESTAMP, note VARCHAR(255))");
+        }
+        statement = connection.prepareStatement("INSERT INTO orders VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        binder = ParameterBinder.of(ATTRIBUTES);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        statement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public PreparedStatement readParameters() throws SQLException {
+        RedshiftFunctionalJdbc.readParameters(ATTRIBUTES).accept(statement);
+        return statement;
+    }
+
+    @Benchmark
+    public PreparedStatement resolvedBinder() throws SQLException {
+        binder.bind(statement, ATTRIBUTES);
+        return statement;
+    }
+
+    @Benchmark
+    public PreparedStatement switchPerValue() throws SQLException {
+        for (int i = 0; i < ATTRIBUTES.size(); i++) {
+            switch (ATTRIBUTES.get(i)) {
+                case null -> statement.setNull(i + 1, Types.NULL);
+                case String s -> statement.setString(i + 1, s);
+                case Integer integer -> statement.setInt(i + 1, integer);
+                case Long l -> statement.setLong(i + 1, l);
+                case Double v -> statement.setDouble(i + 1, v);
+                case Float v -> statement.setFloat(i + 1, v);
+                case Boolean b -> statement.setBoolean(i + 1, b);
+                case Timestamp timestamp -> statement.setTimestamp(i + 1, timestamp);
+                case java.sql.Date date -> statement.setDate(i + 1, date);
+                case java.util.Date date -> statement.setTimestamp(i + 1, new Timestamp(date.getTime()));
+                case java.time.LocalDateTime localDateTime -> statement.setTimestamp(i + 1, Timestamp.valueOf(localDateTime));
+                default -> throw new IllegalArgumentException("Unsupported parameter type: " + ATTRIBUTES.get(i).getClass());
+            }
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,90 @@
+package com.wellalmeida31.redshift_client.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wellalmeida31.redshift_client.persistence.RedshiftFunctionalJdbc;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por linha do mapeamento de {@link ResultSet}: plano compilado de {@link RedshiftFunctionalJdbc#rowMapper}
+ * (classe e record), o caminho anterior {@code resultSetToMap} + {@code objectMapper.convertValue} e um
+ * {@code SQLFunction} escrito à mão como referência.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RowMappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private SimpleResultSet resultSet;
+    private ObjectMapper objectMapper;
+
+    private final RedshiftFunctionalJdbc.SQLFunction<ResultSet, BenchmarkRows.Order> manual = rs -> {
+        BenchmarkRows.Order order = new BenchmarkRows.Order();
+        order.setId(rs.getLong(1));
+        order.setCustomer(rs.getString(2));
+        order.setAmount(rs.getBigDecimal(3));
+        order.setQuantity(rs.getInt(4));
+        order.setActive(rs.getBoolean(5));
+        order.setCreatedAt(rs.getTimestamp(6).toLocalDateTime());
+        return order;
+    };
+
+    @Setup
+    public void setup() {
+        resultSet = BenchmarkRows.orders(ROWS);
+        objectMapper = BenchmarkRows.libraryObjectMapper();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void compiledPlan(Blackhole blackhole) throws SQLException {
+        map(RedshiftFunctionalJdbc.rowMapper(BenchmarkRows.Order.class), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void compiledRecordPlan(Blackhole blackhole) throws SQLException {
+        map(RedshiftFunctionalJdbc.rowMapper(BenchmarkRows.OrderRecord.class), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapAndConvertValue(Blackhole blackhole) throws SQLException {
+        map(rs -> objectMapper.convertValue(resultSetToMap(rs), BenchmarkRows.Order.class), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void manualSqlFunction(Blackhole blackhole) throws SQLException {
+        map(manual, blackhole);
+    }
+
+    private void map(RedshiftFunctionalJdbc.SQLFunction<ResultSet, ?> mapper, Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) blackhole.consume(mapper.apply(resultSet));
+    }
+
+    /**
+     * Mapeamento intermediário usado pelos construtores antes do plano compilado.
+     */
+    private static Map<String, Object> resultSetToMap(ResultSet rs) throws SQLException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < rs.getMetaData().getColumnCount(); i++) {
+            String columnName = rs.getMetaData().getColumnName(i + 1);
+            map.put(columnName, rs.getObject(columnName));
+        }
+        return map;
+    }
+}
@@ -0,0 +1,82 @@
+package com.wellalmeida31.redshift_client.benchmarks;
+
+import com.wellalmeida31.redshift_client.persistence.RedshiftFunctionalJdbc;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validação de uma consulta por {@link RedshiftFunctionalJdbc.JdbcQuery#query(String)}: veredicto em cache,
+ * tokenização do {@code SqlValidator} (textos distintos a cada chamada, acima do limite do cache) e as
+ * expressões {@code UNSUPPORTED_PATTERNS} usadas antes dele, compiladas a cada chamada como no código original.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SqlValidationBenchmark {
+
+    private static final int DISTINCT_QUERIES = 4096;
+
+    private static final Pattern DQL_PATTERN = Pattern.compile("^(?i)SELECT\\s+.+\\s+FROM\\s+.+", Pattern.DOTALL);
+    private static final String[] UNSUPPORTED_PATTERNS = {
+            "\\bWITH\\b.*\\bRECURSIVE\\b",
+            "\\bFULL OUTER JOIN\\b.*\\bON\\b",
+            "\\bFETCH FIRST\\b.*\\bROWS ONLY\\b",
+            "\\bOFFSET\\b.*\\bROWS\\b",
+            "\\bWINDOW\\b",
+            "\\bLATERAL\\b",
+            "\\bQUALIFY\\b"
+    };
+
+    private static final String SIMPLE = "SELECT id, customer FROM orders WHERE id = ?";
+    private static final String COMPLEX = """
+            SELECT o.id, o.customer, SUM(i.amount) AS total, 'window; lateral' AS note
+            FROM sales.orders o
+            JOIN sales.items i ON i.order_id = o.id -- qualify is only a comment here
+            WHERE o.created_at BETWEEN ? AND ? AND o.status IN ('OPEN', 'PAID')
+            GROUP BY o.id, o.customer
+            HAVING SUM(i.amount) > ?
+            ORDER BY total DESC
+            LIMIT 100""";
+
+    @Param({"simple", "complex"})
+    private String shape;
+
+    private final RedshiftFunctionalJdbc.JdbcQuery query = new RedshiftFunctionalJdbc.JdbcQuery(null);
+    private String sql;
+    private String[] distinct;
+    private int next;
+
+    @Setup
+    public void setup() {
+        sql = "simple".equals(shape) ? SIMPLE : COMPLEX;
+        distinct = new String[DISTINCT_QUERIES];
+        for (int i = 0; i < DISTINCT_QUERIES; i++) distinct[i] = sql + " /* " + i + " */";
+    }
+
+    @Benchmark
+    public RedshiftFunctionalJdbc.JdbcQuery cachedVerdict() {
+        return query.query(sql);
+    }
+
+    @Benchmark
+    public RedshiftFunctionalJdbc.JdbcQuery tokenizer() {
+        String text = distinct[next];
+        next = (next + 1) % DISTINCT_QUERIES;
+        return query.query(text);
+    }
+
+    @Benchmark
+    public boolean unsupportedPatterns() {
+        String trimmed = sql.trim();
+        if (trimmed.isEmpty() || !DQL_PATTERN.matcher(trimmed).matches()) return false;
+        for (String pattern : UNSUPPORTED_PATTERNS) {
+            if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(sql).find()) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,274 @@
+package com.wellalmeida31.redshift_client.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wellalmeida31.redshift_client.persistence.RedshiftFunctionalJdbc;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Gerador de carga de ponta a ponta: {@code threads} threads chamam {@code jdbcQuery}, {@code jdbcQueryPage},
+ * {@code jdbcUpdate} e {@code jdbcBatchUpdate} na proporção de {@code --mix} contra um banco local (H2 em
+ * memória no modo PostgreSQL por padrão) atrás de um pool HikariCP.
+ *
+ * <p>Depois do aquecimento, mede vazão, linhas por segundo e percentis de latência por operação, alocação
+ * da JVM, GC e a espera por conexões do pool, e grava tudo em um relatório JSON ({@link LoadTestReport})
+ * para comparar versões da biblioteca com os mesmos parâmetros.</p>
+ *
+ * <pre>{@code
+ * java -cp benchmarks/target/benchmarks.jar com.wellalmeida31.redshift_client.loadtest.LoadTest \
+ *     --threads=16 --duration=60s --mix=query=60,page=20,update=10,batch=10 --report=target/0.0.2.json
+ * }</pre>
+ */
+@Slf4j
+public final class LoadTest {
+
+    private static final long CLEANUP_INTERVAL_MILLIS = 1_000;
+
+    private final LoadTestOptions options;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadTestReport report = new LoadTest(options).run();
+        if (options.report().toAbsolutePath().getParent() != null) Files.createDirectories(options.report().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), report);
+        log.info("Report written to {}", options.report().toAbsolutePath());
+    }
+
+    private LoadTestReport run() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(options.url());
+        config.setUsername(options.username());
+        config.setPassword(options.password());
+        config.setMaximumPoolSize(options.poolSize());
+        config.setPoolName("load-test");
+
+        try (HikariDataSource pool = new HikariDataSource(config);
+             Connection housekeeping = DriverManager.getConnection(options.url(), options.username(), options.password())) {
+            TimedDataSource dataSource = new TimedDataSource(pool);
+            RedshiftFunctionalJdbc jdbc = new RedshiftFunctionalJdbc(dataSource);
+            createSchema(housekeeping);
+            seed(jdbc);
+            return measure(jdbc, dataSource, housekeeping);
+        }
+    }
+
+    private void createSchema(Connection connection) throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS order_events");
+            ddl.execute("DROP TABLE IF EXISTS orders");
+            ddl.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, customer VARCHAR(64), amount NUMERIC(18, 2), "
+                    + "quantity INTEGER, active BOOLEAN, created_at TIMESTAMP)");
+            ddl.execute("CREATE INDEX orders_quantity ON orders (quantity)");
+            ddl.execute("CREATE TABLE order_events (order_id BIGINT, kind VARCHAR(16), created_at TIMESTAMP)");
+        }
+    }
+
+    private void seed(RedshiftFunctionalJdbc jdbc) {
+        LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+        jdbc.jdbcBatchUpdate()
+                .query("INSERT INTO orders (id, customer, amount, quantity, active, created_at) VALUES (?, ?, ?, ?, ?, ?)")
+                .addBatchParameters(LongStream.range(0, options.seedRows()).mapToObj(id -> List.<Object>of(id,
+                        "customer-" + id % 1_000, BigDecimal.valueOf(id % 100_000, 2), (int) (id % Operation.QUANTITIES),
+                        id % 2 == 0, createdAt.minusSeconds(id))))
+                .batchSize(1_000)
+                .rewriteInserts(true)
+                .execute();
+        log.info("Seeded {} rows", options.seedRows());
+    }
+
+    private LoadTestReport measure(RedshiftFunctionalJdbc jdbc, TimedDataSource dataSource, Connection housekeeping)
+            throws Exception {
+        Operation[] schedule = schedule(options.mix());
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.warmup().toNanos();
+        long measureUntil = measureFrom + options.duration().toNanos();
+
+        List<Worker> workers = new ArrayList<>(options.threads());
+        for (int i = 0; i < options.threads(); i++) {
+            Worker worker = new Worker(jdbc, schedule, measureFrom, measureUntil);
+            worker.thread = Thread.ofPlatform().name("load-test-" + i).start(worker);
+            workers.add(worker);
+        }
+        log.info("Warming up for {} with {} threads", options.warmup(), options.threads());
+
+        waitUntil(measureFrom, housekeeping);
+        dataSource.recording(true);
+        long allocatedFrom = allocatedBytes();
+        long[] gcFrom = gc();
+        log.info("Measuring for {}", options.duration());
+
+        waitUntil(measureUntil, housekeeping);
+        dataSource.recording(false);
+        long allocated = allocatedBytes() - allocatedFrom;
+        long[] gcUntil = gc();
+
+        for (Worker worker : workers) worker.thread.join();
+        return report(workers, dataSource.waits(), allocated, gcUntil[0] - gcFrom[0], gcUntil[1] - gcFrom[1]);
+    }
+
+    /**
+     * Dorme até {@code deadline}, esvaziando {@code order_events} a cada segundo para que os lotes não
+     * aumentem o banco durante o teste.
+     */
+    private void waitUntil(long deadline, Connection housekeeping) throws InterruptedException, SQLException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(CLEANUP_INTERVAL_MILLIS)));
+            try (Statement cleanup = housekeeping.createStatement()) {
+                cleanup.executeUpdate("DELETE FROM order_events");
+            }
+        }
+    }
+
+    private LoadTestReport report(List<Worker> workers, LatencyRecorder poolWaits, long allocated, long gcCount, long gcMillis) {
+        double seconds = options.duration().toNanos() / 1e9;
+        Map<String, LoadTestReport.OperationReport> operations = new LinkedHashMap<>();
+        long totalOperations = 0;
+        long totalErrors = 0;
+        long totalRows = 0;
+        for (Operation operation : options.mix().keySet()) {
+            LatencyRecorder latencies = new LatencyRecorder();
+            long errors = 0;
+            long rows = 0;
+            String firstError = null;
+            for (Worker worker : workers) {
+                Stats stats = worker.stats.get(operation);
+                latencies.add(stats.latencies);
+                errors += stats.errors;
+                rows += stats.rows;
+                if (firstError == null) firstError = stats.firstError;
+            }
+            long count = latencies.count();
+            totalOperations += count;
+            totalErrors += errors;
+            totalRows += rows;
+            operations.put(operation.key(), new LoadTestReport.OperationReport(count, errors, round(count / seconds),
+                    round(rows / seconds), LoadTestReport.Latency.of(latencies), firstError));
+            log.info("{}: {} ops/s, {} rows/s, p50 {} ms, p99 {} ms, {} errors", operation.key(), round(count / seconds),
+                    round(rows / seconds), operations.get(operation.key()).latencyMs().p50(),
+                    operations.get(operation.key()).latencyMs().p99(), errors);
+        }
+
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        LoadTestReport.Config config = new LoadTestReport.Config(options.threads(), options.duration().toMillis() / 1e3,
+                options.warmup().toMillis() / 1e3, mix, options.seedRows(), options.queryRows(), options.pageSize(),
+                options.batchSize(), options.poolSize(), options.url());
+
+        return new LoadTestReport(options.label(), Instant.now().toString(), Runtime.version().toString(),
+                Runtime.getRuntime().availableProcessors(), config,
+                new LoadTestReport.Totals(totalOperations, totalErrors, round(totalOperations / seconds), round(totalRows / seconds)),
+                operations,
+                new LoadTestReport.Allocation(allocated, round(allocated / seconds),
+                        totalOperations == 0 ? 0 : round(allocated / (double) totalOperations)),
+                new LoadTestReport.Gc(gcCount, gcMillis),
+                new LoadTestReport.PoolWait(poolWaits.count(), round(poolWaits.totalNanos() / 1e6), LoadTestReport.Latency.of(poolWaits)));
+    }
+
+    /**
+     * Tabela de 100 posições com as operações na proporção dos pesos, sorteada a cada chamada.
+     */
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < Math.max(1, Math.round(weight * 100f / total)); i++) schedule.add(operation);
+        });
+        return schedule.toArray(Operation[]::new);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+    }
+
+    private static long[] gc() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(collector.getCollectionCount(), 0);
+            millis += Math.max(collector.getCollectionTime(), 0);
+        }
+        return new long[]{count, millis};
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private final class Worker implements Runnable {
+        private final RedshiftFunctionalJdbc jdbc;
+        private final Operation[] schedule;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+        private Thread thread;
+
+        Worker(RedshiftFunctionalJdbc jdbc, Operation[] schedule, long measureFrom, long measureUntil) {
+            this.jdbc = jdbc;
+            this.schedule = schedule;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            for (Operation operation : Operation.values()) stats.put(operation, new Stats());
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long start;
+            while ((start = System.nanoTime()) < measureUntil) {
+                Operation operation = schedule[random.nextInt(schedule.length)];
+                boolean measured = start >= measureFrom;
+                try {
+                    long rows = operation.execute(jdbc, options, random);
+                    if (measured) stats.get(operation).success(System.nanoTime() - start, rows);
+                } catch (RuntimeException e) {
+                    if (measured) stats.get(operation).failure(System.nanoTime() - start, e);
+                    else log.debug("{} failed during warm-up", operation.key(), e);
+                }
+            }
+        }
+    }
+
+    private static final class Stats {
+        private final LatencyRecorder latencies = new LatencyRecorder();
+        private long rows;
+        private long errors;
+        private String firstError;
+
+        void success(long nanos, long rows) {
+            latencies.record(nanos);
+            this.rows += rows;
+        }
+
+        void failure(long nanos, RuntimeException e) {
+            latencies.record(nanos);
+            errors++;
+            if (firstError == null) firstError = e.toString();
+        }
+    }
+}
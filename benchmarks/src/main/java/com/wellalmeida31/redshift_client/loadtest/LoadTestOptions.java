@@ -0,0 +1,97 @@
+package com.wellalmeida31.redshift_client.loadtest;
+
+import com.wellalmeida31.redshift_client.persistence.RedshiftFunctionalJdbc;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parâmetros do {@link LoadTest}, no formato {@code --nome=valor}.
+ *
+ * @param threads threads que chamam os construtores
+ * @param duration tempo medido
+ * @param warmup tempo de aquecimento, descartado do relatório
+ * @param mix peso de cada operação
+ * @param seedRows linhas da tabela {@code orders}
+ * @param queryRows linhas lidas por {@code jdbcQuery}
+ * @param pageSize tamanho da página do {@code jdbcQueryPage}
+ * @param batchSize linhas enviadas por {@code jdbcBatchUpdate}
+ * @param poolSize conexões do pool
+ * @param url JDBC URL do banco local, H2 em memória no modo PostgreSQL por padrão
+ * @param username usuário do banco
+ * @param password senha do banco
+ * @param label identificação da execução no relatório (ex.: versão da biblioteca)
+ * @param report arquivo JSON do relatório
+ */
+record LoadTestOptions(int threads, Duration duration, Duration warmup, Map<Operation, Integer> mix, int seedRows,
+                       int queryRows, int pageSize, int batchSize, int poolSize, String url, String username,
+                       String password, String label, Path report) {
+
+    static final String H2_URL = "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final Set<String> NAMES = Set.of("threads", "duration", "warmup", "mix", "seed-rows", "query-rows",
+            "page-size", "batch-size", "pool-size", "url", "username", "password", "label", "report");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0 || !NAMES.contains(arg.substring(2, separator)))
+                throw new IllegalArgumentException("Invalid argument " + arg + ", expected --name=value with name in " + NAMES);
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(
+                positive(values, "threads", 8),
+                duration(values, "duration", "30s", false),
+                duration(values, "warmup", "10s", true),
+                mix(values.getOrDefault("mix", "query=50,page=20,update=20,batch=10")),
+                positive(values, "seed-rows", 100_000),
+                positive(values, "query-rows", 100),
+                positive(values, "page-size", 50),
+                positive(values, "batch-size", 500),
+                positive(values, "pool-size", 10),
+                values.getOrDefault("url", H2_URL),
+                values.getOrDefault("username", "sa"),
+                values.getOrDefault("password", ""),
+                values.getOrDefault("label", defaultLabel()),
+                Path.of(values.getOrDefault("report", "load-test-report.json")));
+    }
+
+    private static int positive(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        int parsed = value == null ? defaultValue : Integer.parseInt(value);
+        if (parsed <= 0) throw new IllegalArgumentException("--" + name + " must be greater than 0.");
+        return parsed;
+    }
+
+    private static Duration duration(Map<String, String> values, String name, String defaultValue, boolean allowZero) {
+        Duration parsed = DurationStyle.detectAndParse(values.getOrDefault(name, defaultValue));
+        if (parsed.isNegative() || (!allowZero && parsed.isZero()))
+            throw new IllegalArgumentException("--" + name + " must be " + (allowZero ? "zero or positive." : "positive."));
+        return parsed;
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] weight = entry.trim().split("=");
+            if (weight.length != 2) throw new IllegalArgumentException("Invalid mix entry " + entry + ", expected name=weight");
+            int parsed = Integer.parseInt(weight[1].trim());
+            if (parsed < 0) throw new IllegalArgumentException("Mix weight of " + weight[0] + " must not be negative.");
+            if (parsed > 0) mix.put(Operation.of(weight[0].trim()), parsed);
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("--mix must have at least one operation with weight > 0.");
+        return mix;
+    }
+
+    private static String defaultLabel() {
+        String version = RedshiftFunctionalJdbc.class.getPackage().getImplementationVersion();
+        return version != null ? version : "unknown";
+    }
+}
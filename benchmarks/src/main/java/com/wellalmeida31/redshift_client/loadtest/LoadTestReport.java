@@ -0,0 +1,45 @@
+package com.wellalmeida31.redshift_client.loadtest;
+
+import java.util.Map;
+
+/**
+ * Relatório JSON do {@link LoadTest}, estável entre versões para comparar execuções. Tempos em
+ * milissegundos, vazões por segundo do período medido (sem o aquecimento).
+ */
+record LoadTestReport(String label, String startedAt, String jvm, int cpus, Config config, Totals totals,
+                      Map<String, OperationReport> operations, Allocation allocation, Gc gc, PoolWait poolWait) {
+
+    record Config(int threads, double durationSeconds, double warmupSeconds, Map<String, Integer> mix, int seedRows,
+                  int queryRows, int pageSize, int batchSize, int poolSize, String url) {
+    }
+
+    record Totals(long operations, long errors, double operationsPerSecond, double rowsPerSecond) {
+    }
+
+    record OperationReport(long operations, long errors, double operationsPerSecond, double rowsPerSecond,
+                           Latency latencyMs, String firstError) {
+    }
+
+    record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(LatencyRecorder recorder) {
+            long count = recorder.count();
+            return new Latency(count == 0 ? 0 : millis(recorder.totalNanos() / (double) count),
+                    millis(recorder.percentile(50)), millis(recorder.percentile(90)), millis(recorder.percentile(99)),
+                    millis(recorder.percentile(99.9)), millis(recorder.maxNanos()));
+        }
+
+        private static double millis(double nanos) {
+            return Math.round(nanos / 100.0) / 10_000.0;
+        }
+    }
+
+    record Allocation(long bytes, double bytesPerSecond, double bytesPerOperation) {
+    }
+
+    record Gc(long collections, double pauseMs) {
+    }
+
+    record PoolWait(long acquisitions, double totalMs, Latency latencyMs) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.wellalmeida31.redshift_client.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wellalmeida31.redshift_client.persistence.RedshiftFunctionalJdbc;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Chamadas dos construtores públicos geradas pelo {@link LoadTest}. Cada execução devolve as linhas lidas,
+ * afetadas ou enviadas.
+ */
+enum Operation {
+
+    QUERY {
+        @Override
+        long execute(RedshiftFunctionalJdbc jdbc, LoadTestOptions options, ThreadLocalRandom random) {
+            long first = random.nextLong(options.seedRows() - Math.min(options.queryRows(), options.seedRows()) + 1);
+            return jdbc.jdbcQuery()
+                    .query(SELECT + " WHERE id BETWEEN ? AND ?")
+                    .parameters(List.<Object>of(first, first + options.queryRows() - 1))
+                    .executeQuery(Order.class)
+                    .size();
+        }
+    },
+    PAGE {
+        @Override
+        long execute(RedshiftFunctionalJdbc jdbc, LoadTestOptions options, ThreadLocalRandom random) {
+            return jdbc.jdbcQueryPage()
+                    .query(SELECT + " WHERE quantity = ?")
+                    .parameters(List.<Object>of(random.nextInt(QUANTITIES)))
+                    .pageSize(options.pageSize())
+                    .pageIndex(random.nextInt(5))
+                    .sort(Sort.by("id"))
+                    .executePagedQuery(Order.class)
+                    .getNumberOfElements();
+        }
+    },
+    UPDATE {
+        @Override
+        long execute(RedshiftFunctionalJdbc jdbc, LoadTestOptions options, ThreadLocalRandom random) {
+            int[] affected = new int[1];
+            jdbc.jdbcUpdate()
+                    .query("UPDATE orders SET quantity = ?, active = ? WHERE id = ?")
+                    .parameters(List.<Object>of(random.nextInt(QUANTITIES), random.nextBoolean(), random.nextLong(options.seedRows())))
+                    .onSuccess(rows -> affected[0] = rows)
+                    .execute();
+            return affected[0];
+        }
+    },
+    BATCH {
+        @Override
+        long execute(RedshiftFunctionalJdbc jdbc, LoadTestOptions options, ThreadLocalRandom random) {
+            LocalDateTime now = LocalDateTime.now();
+            jdbc.jdbcBatchUpdate()
+                    .query("INSERT INTO order_events (order_id, kind, created_at) VALUES (?, ?, ?)")
+                    .addBatchParameters(Stream.generate(() -> List.<Object>of(random.nextLong(options.seedRows()), "shipped", now))
+                            .limit(options.batchSize()))
+                    .batchSize(options.batchSize())
+                    .rewriteInserts(true)
+                    .execute();
+            return options.batchSize();
+        }
+    };
+
+    static final int QUANTITIES = 50;
+    private static final String SELECT = "SELECT id, customer, amount, quantity, active, created_at FROM orders";
+
+    abstract long execute(RedshiftFunctionalJdbc jdbc, LoadTestOptions options, ThreadLocalRandom random);
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key().equals(key)) return operation;
+        }
+        throw new IllegalArgumentException("Unknown operation " + key + ", expected query, page, update or batch");
+    }
+
+    public record Order(long id, String customer, BigDecimal amount, int quantity, boolean active,
+                        @JsonProperty("created_at") LocalDateTime createdAt) {
+    }
+}
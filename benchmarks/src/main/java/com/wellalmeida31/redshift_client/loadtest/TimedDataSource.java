@@ -0,0 +1,82 @@
+package com.wellalmeida31.redshift_client.loadtest;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+/**
+ * {@link DataSource} que mede a espera por uma conexão do pool em cada {@code getConnection()}, enquanto
+ * {@link #recording(boolean)} estiver ativo.
+ */
+final class TimedDataSource implements DataSource {
+
+    private final DataSource pool;
+    private final LatencyRecorder waits = new LatencyRecorder();
+    private volatile boolean recording;
+
+    TimedDataSource(DataSource pool) {
+        this.pool = pool;
+    }
+
+    void recording(boolean recording) {
+        this.recording = recording;
+    }
+
+    LatencyRecorder waits() {
+        return waits;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = pool.getConnection();
+        if (recording) waits.record(System.nanoTime() - start);
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = pool.getConnection(username, password);
+        if (recording) waits.record(System.nanoTime() - start);
+        return connection;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return pool.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        pool.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        pool.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return pool.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return pool.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : pool.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || pool.isWrapperFor(iface);
+    }
+}
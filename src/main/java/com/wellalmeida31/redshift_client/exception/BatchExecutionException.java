@@ -0,0 +1,38 @@
+package com.wellalmeida31.redshift_client.exception;
+
+import java.util.List;
+
+public class BatchExecutionException extends RedshiftException {
+    private final transient List<ChunkFailure> failures;
+    private final long rowsExecuted;
+    private final int chunksExecuted;
+
+    public BatchExecutionException(List<ChunkFailure> failures, long rowsExecuted, int chunksExecuted) {
+        super(failures.size() + " batch chunk(s) failed, " + chunksExecuted + " executed", failures.getFirst().cause());
+        this.failures = List.copyOf(failures);
+        this.rowsExecuted = rowsExecuted;
+        this.chunksExecuted = chunksExecuted;
+        for (int i = 1; i < failures.size(); i++) addSuppressed(failures.get(i).cause());
+    }
+
+    public List<ChunkFailure> getFailures() {
+        return failures;
+    }
+
+    public long getRowsExecuted() {
+        return rowsExecuted;
+    }
+
+    public int getChunksExecuted() {
+        return chunksExecuted;
+    }
+
+    /**
+     * @param chunk número do bloco, na ordem de leitura (a partir de 0)
+     * @param firstRow posição da primeira linha do bloco
+     * @param rows linhas do bloco
+     * @param cause erro do bloco
+     */
+    public record ChunkFailure(int chunk, long firstRow, int rows, Throwable cause) {
+    }
+}
@@ -1,14 +1,16 @@
 package com.wellalmeida31.redshift_client.id.engine;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGenerator;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Objects;
-
-import static java.lang.System.currentTimeMillis;
-
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 
 /**
  * Gerador de identificadores únicos distribuídos inspirado na estratégia de Snowflake.
@@ -29,15 +31,23 @@ import static java.lang.System.currentTimeMillis;
  *     <li><b>Node ID:</b> Determinado a partir do hash do endereço IP local, limitado a 10 bits.</li>
  *     <li><b>Field:</b> Pode ser usado como long ou String</li>
  *     <li><b>Sequência:</b> Incrementada para cada ID gerado no mesmo milissegundo, limitada a 12 bits.</li>
- *     <li><b>Colisões</b> Apresenta 0% de taxa de colisão para programação imperativa, podendo apresentar
- *     colisão em ambientes multi thread com alta taxa de geração de id por segundo</li>
+ *     <li><b>Colisões:</b> 0% de taxa de colisão por instância, inclusive com várias threads (sessões do
+ *     Hibernate) gerando ao mesmo tempo. Entre nós, depende de o Node ID ser distinto; após reiniciar, de o
+ *     relógio não estar atrás do último ID emitido.</li>
  *     <li><b>Capacidade:</b> Pode gerar 160 quatrilhões de IDs</li>
  * </ul>
  *
  * <h2>Comportamento:</h2>
  * <ul>
+ *     <li>Timestamp e sequência do último ID ficam em um único {@link AtomicLong}, atualizado por
+ *     compare-and-set: a geração não usa lock e nunca repete um par timestamp/sequência.</li>
  *     <li>Se múltiplos IDs forem gerados no mesmo milissegundo, a sequência será incrementada.</li>
- *     <li>Se a sequência atingir seu limite, o gerador esperará até o próximo milissegundo para continuar.</li>
+ *     <li>Se a sequência atingir seu limite, o gerador usa o próximo milissegundo sem esperar por ele,
+ *     emprestando até {@value #MAX_BORROWED_MILLIS} ms à frente do relógio; além disso, aguarda o relógio
+ *     sem ocupar a CPU.</li>
+ *     <li>Se o relógio voltar até {@value #MAX_BORROWED_MILLIS} ms, a geração continua a partir do último
+ *     timestamp emitido; até {@value #MAX_CLOCK_REGRESSION_MILLIS} ms, aguarda o relógio alcançá-lo;
+ *     recuos maiores lançam {@link IdentifierGenerationException}.</li>
  * </ul>
  *
  * <h2>Exemplo de Uso:</h2>
@@ -63,7 +73,7 @@ import static java.lang.System.currentTimeMillis;
  *  }</pre>
  *
  * @author Wellington Almeida
- * @version 1.1
+ * @version 1.2
  * @since 2025-05-19
  * @see IdentifierGenerator
  */
@@ -78,9 +88,24 @@ public class IdGeneratorLanBased implements IdentifierGenerator {
     private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
     private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
 
+    /**
+     * Quantos milissegundos o último timestamp emitido pode estar à frente do relógio sem que a geração espere.
+     */
+    static final long MAX_BORROWED_MILLIS = 1_000;
+    /**
+     * Distância além da qual o último timestamp emitido indica um recuo do relógio que não será aguardado.
+     */
+    static final long MAX_CLOCK_REGRESSION_MILLIS = 5_000;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
     private final long nodeId;
-    private long lastTimestamp = -1L;
-    private long sequence = 0L;
+    private final LongSupplier clock;
+
+    /**
+     * Último timestamp (relativo a {@link #EPOCH}) e sequência emitidos, como {@code timestamp << 12 | sequência}.
+     * Incrementar o valor avança a sequência e, quando ela se esgota, o timestamp.
+     */
+    private final AtomicLong lastIssued = new AtomicLong();
 
     /**
      * Construtor padrão.
@@ -88,7 +113,19 @@ public class IdGeneratorLanBased implements IdentifierGenerator {
      * <p>Calcula o Node ID com base no endereço IP do host atual.</p>
      */
     public IdGeneratorLanBased() {
-        this.nodeId = createNodeId();
+        this(System::currentTimeMillis, createNodeId());
+    }
+
+    /**
+     * Construtor com relógio (em milissegundos desde 1970) e Node ID explícitos, usado nos testes.
+     *
+     * @throws IllegalArgumentException se o Node ID não couber em {@value #NODE_BITS} bits.
+     */
+    IdGeneratorLanBased(LongSupplier clock, long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+        this.clock = Objects.requireNonNull(clock, "clock is null");
+        this.nodeId = nodeId;
     }
 
     /**
@@ -100,30 +137,36 @@ public class IdGeneratorLanBased implements IdentifierGenerator {
      */
     @Override
     public Object generate(SharedSessionContractImplementor sharedSessionContractImplementor, Object o) {
-        long currentTimestamp = currentTimeMillis();
-
-        if (currentTimestamp == lastTimestamp) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            if (sequence == 0) currentTimestamp = waitNextMillis(lastTimestamp);
-        } else sequence = 0;
-
-        lastTimestamp = currentTimestamp;
-
-        return ((currentTimestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+        return nextId();
     }
 
     /**
-     * Aguarda o próximo milissegundo para evitar colisões quando a sequência atinge o limite.
+     * Reserva o próximo par timestamp/sequência com compare-and-set e monta o identificador.
      *
-     * @param lastTimestamp último timestamp utilizado.
-     * @return long - o próximo timestamp em milissegundos.
+     * @return long - um identificador único.
+     * @throws IdentifierGenerationException se o relógio voltou mais que {@link #MAX_CLOCK_REGRESSION_MILLIS}.
      */
-    private long waitNextMillis(long lastTimestamp) {
-        long currentTimestamp = currentTimeMillis();
-        while (currentTimestamp <= lastTimestamp) {
-            currentTimestamp = currentTimeMillis();
+    private long nextId() {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH;
+            long last = lastIssued.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                if (lastTimestamp - now > MAX_CLOCK_REGRESSION_MILLIS)
+                    throw new IdentifierGenerationException("Clock is " + (lastTimestamp - now)
+                            + " ms behind the last generated id; refusing to generate ids until it catches up");
+                next = last + 1;
+                if ((next >>> SEQUENCE_BITS) - now > MAX_BORROWED_MILLIS) {
+                    LockSupport.parkNanos(PARK_NANOS);
+                    continue;
+                }
+            }
+            if (lastIssued.compareAndSet(last, next))
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & MAX_SEQUENCE);
         }
-        return currentTimestamp;
     }
 
     /**
@@ -132,7 +175,7 @@ public class IdGeneratorLanBased implements IdentifierGenerator {
      * @return long - o Node ID limitado a {@link #MAX_NODE_ID}.
      * @throws RuntimeException se não for possível obter o endereço IP do host.
      */
-    private long createNodeId() {
+    private static long createNodeId() {
         try {
             String hostAddress = Objects.requireNonNullElse(InetAddress.getLocalHost().getHostAddress(), "127.0.0.1");
             return Math.abs(hostAddress.hashCode()) & MAX_NODE_ID;
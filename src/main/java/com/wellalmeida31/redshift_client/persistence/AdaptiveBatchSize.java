@@ -0,0 +1,61 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.time.Duration;
+
+/**
+ * Controlador do tamanho de bloco do {@code JdbcBatchUpdate}, ajustado a cada ida ao banco.
+ *
+ * <p>Bloco acima do teto de latência: o tamanho cai pela metade (decréscimo multiplicativo). Caso
+ * contrário o tamanho sobe um passo fixo (acréscimo aditivo), e volta um passo quando o aumento anterior
+ * reduziu as linhas por segundo em mais de 10% (subida de encosta). O passo é 1/16 do intervalo
+ * {@code [min, max]}.</p>
+ */
+final class AdaptiveBatchSize {
+
+    private static final double THROUGHPUT_TOLERANCE = 0.9;
+
+    private final int min;
+    private final int max;
+    private final long latencyCeilingNanos;
+    private final int step;
+    private int size;
+    private double lastThroughput;
+    private boolean lastWasIncrease;
+
+    AdaptiveBatchSize(int initial, int min, int max, Duration latencyCeiling) {
+        this.min = min;
+        this.max = max;
+        this.latencyCeilingNanos = latencyCeiling.toNanos();
+        this.step = Math.max(1, (max - min) / 16);
+        this.size = Math.clamp(initial, min, max);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    int max() {
+        return max;
+    }
+
+    /**
+     * Registra a duração de um bloco e devolve o tamanho para os próximos. Blocos parciais (o último da
+     * carga) não são medidos.
+     */
+    synchronized int record(int rows, long nanos) {
+        if (rows < size && nanos <= latencyCeilingNanos) return size;
+        double throughput = rows * 1e9 / Math.max(nanos, 1);
+        if (nanos > latencyCeilingNanos) {
+            size = Math.max(min, size / 2);
+            lastWasIncrease = false;
+        } else if (lastWasIncrease && throughput < lastThroughput * THROUGHPUT_TOLERANCE) {
+            size = Math.max(min, size - step);
+            lastWasIncrease = false;
+        } else if (size < max) {
+            size = Math.min(max, size + step);
+            lastWasIncrease = true;
+        }
+        lastThroughput = throughput;
+        return size;
+    }
+}
@@ -0,0 +1,193 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.wellalmeida31.redshift_client.exception.RedshiftException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor das variantes {@code *Async} dos construtores: cada tarefa roda em uma virtual thread e
+ * aguarda, em ordem de chegada (semáforo justo), uma das {@code maxConcurrency} permissões, que devem
+ * corresponder aos slots da fila WLM usada. Assim nenhuma thread de plataforma fica presa e o cluster
+ * nunca recebe mais consultas simultâneas do que o limite. Cancelar o future libera a espera pela
+ * permissão ou cancela no servidor a instrução em execução.
+ *
+ * <p>{@link #close()} recusa novas tarefas e aguarda as enviadas por até {@value #CLOSE_TIMEOUT_SECONDS}s; as
+ * que não terminarem no prazo falham com {@link RedshiftException} e suas instruções são canceladas.</p>
+ */
+@Slf4j
+public final class AsyncExecutor implements AutoCloseable {
+
+    static final int DEFAULT_MAX_CONCURRENCY = 5;
+    static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private static final int WAITING = 0;
+    private static final int RUNNING = 1;
+    private static final int FINISHED = 2;
+
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("redshift-async-", 0).factory());
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final Set<Submission<?>> pending = ConcurrentHashMap.newKeySet();
+
+    public AsyncExecutor(int maxConcurrency) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("Max concurrency must be greater than 0.");
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    /**
+     * Executor compartilhado dos construtores criados fora de {@code RedshiftFunctionalJdbc}.
+     */
+    static AsyncExecutor shared() {
+        return Shared.INSTANCE;
+    }
+
+    <T> Submission<T> submit(RedshiftFunctionalJdbc.SQLSupplier<T> task) {
+        Submission<T> result = new Submission<>();
+        long queuedAt = System.nanoTime();
+        submitted.increment();
+        pending.add(result);
+        result.whenComplete((value, failure) -> pending.remove(result));
+        try {
+            executor.execute(() -> run(task, result, queuedAt));
+        } catch (RejectedExecutionException e) {
+            failed.increment();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private <T> void run(RedshiftFunctionalJdbc.SQLSupplier<T> task, Submission<T> result, long queuedAt) {
+        Thread worker = Thread.currentThread();
+        AtomicInteger state = result.state;
+        result.worker = worker;
+        result.whenComplete((value, failure) -> {
+            // completado de fora (cancel ou close): libera a espera ou cancela a instrução em execução
+            if (state.compareAndSet(WAITING, FINISHED)) worker.interrupt();
+            else if (state.get() == RUNNING) QueryWatchdog.cancel(worker);
+        });
+        if (result.isDone()) {
+            failed.increment();
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.increment();
+            result.completeExceptionally(new RedshiftException("Interrupted while waiting for a Redshift slot", e));
+            return;
+        }
+        if (!state.compareAndSet(WAITING, RUNNING)) {
+            permits.release();
+            failed.increment();
+            return;
+        }
+        long startedAt = System.nanoTime();
+        long waited = startedAt - queuedAt;
+        waitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+        started.increment();
+        T value = null;
+        Throwable failure = null;
+        try {
+            value = task.get();
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            state.set(FINISHED);
+            QueryWatchdog.release(worker);
+            executionNanos.add(System.nanoTime() - startedAt);
+            executed.increment();
+            permits.release();
+        }
+        if (failure == null) {
+            completed.increment();
+            result.complete(value);
+        } else {
+            failed.increment();
+            result.completeExceptionally(failure);
+        }
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public AsyncStats stats() {
+        long startedCount = started.sum();
+        long executedCount = executed.sum();
+        return new AsyncStats(submitted.sum(), completed.sum(), failed.sum(),
+                maxConcurrency - permits.availablePermits(), permits.getQueueLength(),
+                Duration.ofNanos(startedCount == 0 ? 0 : waitNanos.sum() / startedCount),
+                Duration.ofNanos(maxWaitNanos.get()),
+                Duration.ofNanos(executedCount == 0 ? 0 : executionNanos.sum() / executedCount));
+    }
+
+    /**
+     * Recusa novas tarefas e aguarda as que já foram enviadas por até {@value #CLOSE_TIMEOUT_SECONDS}s.
+     */
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(CLOSE_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Recusa novas tarefas e aguarda as que já foram enviadas por até {@code timeout}. As que ainda esperam um
+     * slot ou executam quando o prazo termina falham com {@link RedshiftException}, e as instruções em execução
+     * são canceladas no servidor. Devolve {@code true} se todas terminaram no prazo.
+     */
+    public boolean close(Duration timeout) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        RedshiftException failure = new RedshiftException("Async executor closed before the task finished");
+        int failed = 0;
+        for (Submission<?> submission : List.copyOf(pending)) {
+            if (submission.completeExceptionally(failure)) failed++;
+        }
+        log.warn("Async executor closed with {} tasks not finished", failed);
+        return false;
+    }
+
+    /**
+     * Future de uma tarefa enviada; {@link #withdraw()} a retira da fila enquanto ainda aguarda a permissão.
+     */
+    static final class Submission<T> extends CompletableFuture<T> {
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile Thread worker;
+
+        /**
+         * Cancela a tarefa se ela ainda não começou a executar; devolve {@code false} se já começou (ou terminou).
+         */
+        boolean withdraw() {
+            if (!state.compareAndSet(WAITING, FINISHED)) return false;
+            cancel(false);
+            Thread waiting = worker;
+            if (waiting != null) waiting.interrupt();
+            return true;
+        }
+    }
+
+    private static final class Shared {
+        private static final AsyncExecutor INSTANCE = new AsyncExecutor(DEFAULT_MAX_CONCURRENCY);
+    }
+}
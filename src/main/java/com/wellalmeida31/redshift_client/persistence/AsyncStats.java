@@ -0,0 +1,19 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.time.Duration;
+
+/**
+ * Métricas de um {@link AsyncExecutor}, separando a espera na fila do tempo de execução.
+ *
+ * @param submitted tarefas enviadas
+ * @param completed tarefas concluídas com sucesso
+ * @param failed tarefas concluídas com erro
+ * @param running tarefas em execução (com permissão)
+ * @param waiting tarefas aguardando permissão
+ * @param averageWait espera média por permissão
+ * @param maxWait maior espera por permissão
+ * @param averageExecution tempo médio de execução
+ */
+public record AsyncStats(long submitted, long completed, long failed, int running, int waiting,
+                         Duration averageWait, Duration maxWait, Duration averageExecution) {
+}
@@ -0,0 +1,13 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+/**
+ * Janela de transação confirmada por um {@code JdbcBatchUpdate} com {@code commitEvery} / {@code singleTransaction}.
+ *
+ * @param window número da janela confirmada (a partir de 1)
+ * @param firstChunk primeiro bloco da janela (a partir de 1)
+ * @param lastChunk último bloco da janela
+ * @param rows linhas enviadas na janela
+ * @param totalRowsCommitted linhas confirmadas até agora
+ */
+public record BatchCommit(int window, int firstChunk, int lastChunk, long rows, long totalRowsCommitted) {
+}
@@ -0,0 +1,14 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+/**
+ * Progresso de um {@code JdbcBatchUpdate}, informado após cada {@code executeBatch()}.
+ *
+ * @param chunk número do bloco executado (a partir de 1)
+ * @param chunkRows linhas enviadas no bloco
+ * @param chunkRowsAffected soma dos update counts do bloco
+ * @param totalRows linhas enviadas até agora
+ * @param totalRowsAffected soma dos update counts até agora
+ * @param batchSize tamanho de bloco em uso após este bloco (muda apenas com {@code adaptiveBatchSize})
+ */
+public record BatchProgress(int chunk, int chunkRows, long chunkRowsAffected, long totalRows, long totalRowsAffected, int batchSize) {
+}
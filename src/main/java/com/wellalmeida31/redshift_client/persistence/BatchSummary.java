@@ -0,0 +1,11 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+/**
+ * Resumo agregado de um {@code JdbcBatchUpdate} concluído, sem manter um update count por linha.
+ *
+ * @param rows linhas enviadas
+ * @param rowsAffected soma dos update counts informados pelo driver
+ * @param chunks quantidade de {@code executeBatch()} executados
+ */
+public record BatchSummary(long rows, long rowsAffected, int chunks) {
+}
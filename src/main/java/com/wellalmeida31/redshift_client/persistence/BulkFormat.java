@@ -0,0 +1,32 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+/**
+ * Formato das partes do {@code JdbcBulkLoad}, sempre comprimidas com GZIP.
+ */
+public enum BulkFormat {
+    /**
+     * CSV com texto sempre entre aspas; {@code null} é gravado como {@code \N} sem aspas ({@code NULL AS}), então
+     * {@code NULL} e {@code ""} continuam distintos depois do COPY.
+     */
+    CSV("csv", "FORMAT AS CSV NULL AS '\\\\N'"),
+    /** Um objeto JSON por linha, com as chaves iguais às colunas. */
+    JSON("json", "FORMAT AS JSON 'auto'");
+
+    static final String CSV_NULL = "\\N";
+
+    private final String extension;
+    private final String copyOption;
+
+    BulkFormat(String extension, String copyOption) {
+        this.extension = extension;
+        this.copyOption = copyOption;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    String copyOption() {
+        return copyOption;
+    }
+}
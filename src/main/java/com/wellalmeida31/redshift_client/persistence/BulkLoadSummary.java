@@ -0,0 +1,12 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+/**
+ * Resumo de um {@code JdbcBulkLoad} concluído.
+ *
+ * @param rows linhas gravadas nas partes
+ * @param bytes bytes gravados no stager, já comprimidos
+ * @param parts quantidade de partes geradas
+ * @param rowsLoaded linhas carregadas informadas pelo {@code COPY}
+ */
+public record BulkLoadSummary(long rows, long bytes, int parts, long rowsLoaded) {
+}
@@ -0,0 +1,18 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.time.Duration;
+
+/**
+ * Instruções canceladas no servidor desde o início da aplicação.
+ *
+ * @param cancelled total de instruções canceladas
+ * @param timedOut canceladas pelo prazo ({@code queryTimeout})
+ * @param interrupted canceladas por interrupção da thread ou cancelamento do future
+ * @param closed canceladas pelo fechamento do stream/assinatura antes do fim
+ * @param executionBeforeCancel tempo que as instruções canceladas já tinham executado
+ * @param reclaimed tempo de prazo que ainda restava às instruções canceladas pelo chamador (sem prazo, não soma)
+ * @param watching instruções vigiadas neste momento
+ */
+public record CancellationStats(long cancelled, long timedOut, long interrupted, long closed,
+                                Duration executionBeforeCancel, Duration reclaimed, int watching) {
+}
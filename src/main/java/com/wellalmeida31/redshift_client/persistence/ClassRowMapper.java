@@ -0,0 +1,412 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wellalmeida31.redshift_client.exception.RedshiftException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Mapeador de linhas de {@link ResultSet} para classes, compilado uma única vez por
+ * formato de consulta (rótulos das colunas) e classe de destino.
+ *
+ * <p>Na primeira linha lida o {@link ResultSetMetaData} é inspecionado e é montado um plano
+ * coluna (por índice) → setter / campo / componente de record / método do builder Lombok,
+ * usando {@link MethodHandle}. O plano fica em cache e as execuções seguintes apenas leem as
+ * colunas por índice e invocam os handles, sem {@code Map} intermediário por linha.</p>
+ *
+ * <p>Os nomes seguem as mesmas regras do {@code ObjectMapper} da biblioteca: nome da propriedade,
+ * {@link JsonProperty} e {@link JsonAlias}, respeitando {@link JsonIgnore}. Conversões não
+ * triviais de valores continuam delegadas ao Jackson, coluna a coluna. Classes que não possuem
+ * construtor sem argumentos, builder ou record (ex.: {@code Map}) usam o caminho Jackson completo.</p>
+ *
+ * <p>Instâncias não são thread-safe: crie uma por execução (o plano compilado é compartilhado).</p>
+ */
+final class ClassRowMapper<T> implements RedshiftFunctionalJdbc.SQLFunction<ResultSet, T> {
+
+    private static final int MAX_CACHED_PLANS = 1024;
+    private static final Map<PlanKey, RowPlan<?>> PLANS = new ConcurrentHashMap<>();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType FLUENT_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private final Class<T> type;
+    private final ObjectMapper objectMapper;
+    private RowPlan<T> plan;
+
+    ClassRowMapper(Class<T> type, ObjectMapper objectMapper) {
+        this.type = Objects.requireNonNull(type, "type is null");
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public T apply(ResultSet rs) throws SQLException {
+        RowPlan<T> p = plan;
+        if (p == null) plan = p = resolve(rs.getMetaData());
+        return p.map(rs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RowPlan<T> resolve(ResultSetMetaData metaData) throws SQLException {
+        String[] labels = new String[metaData.getColumnCount()];
+        for (int i = 0; i < labels.length; i++) labels[i] = metaData.getColumnLabel(i + 1);
+
+        PlanKey key = new PlanKey(type, String.join(",", labels));
+        RowPlan<?> cached = PLANS.get(key);
+        if (cached != null) return (RowPlan<T>) cached;
+
+        RowPlan<T> compiled = compile(labels);
+        if (PLANS.size() < MAX_CACHED_PLANS) PLANS.putIfAbsent(key, compiled);
+        return compiled;
+    }
+
+    private RowPlan<T> compile(String[] labels) {
+        try {
+            if (type.isRecord()) return recordPlan(labels);
+            Constructor<T> noArgs = noArgsConstructor();
+            if (noArgs != null) return setterPlan(noArgs, labels);
+            Method builder = builderMethod();
+            if (builder != null) return builderPlan(builder, labels);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new RedshiftException("Unable to compile row mapper for " + type.getName(), e);
+        }
+        return jacksonPlan(labels);
+    }
+
+    private RowPlan<T> jacksonPlan(String[] labels) {
+        return rs -> {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < labels.length; i++) map.put(labels[i], rs.getObject(i + 1));
+            return objectMapper.convertValue(map, type);
+        };
+    }
+
+    private RowPlan<T> setterPlan(Constructor<T> constructor, String[] labels) throws IllegalAccessException {
+        constructor.setAccessible(true);
+        MethodHandle factory = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        Map<String, Property> properties = mutableProperties();
+
+        List<Binding> bindings = new ArrayList<>();
+        for (int i = 0; i < labels.length; i++) {
+            Property property = properties.get(labels[i]);
+            if (property != null) bindings.add(new Binding(i + 1, property.target(), converter(property), property.handle()));
+        }
+        Binding[] plan = bindings.toArray(Binding[]::new);
+
+        return rs -> {
+            Object instance = create(factory);
+            for (Binding binding : plan) {
+                Object value = binding.read(rs);
+                if (value == null && binding.target().isPrimitive()) continue;
+                set(binding.handle(), instance, value);
+            }
+            return type.cast(instance);
+        };
+    }
+
+    private RowPlan<T> recordPlan(String[] labels) throws ReflectiveOperationException {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        Constructor<T> canonical = type.getDeclaredConstructor(parameterTypes);
+        canonical.setAccessible(true);
+        MethodHandle factory = LOOKUP.unreflectConstructor(canonical)
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        Map<String, Integer> slots = new HashMap<>();
+        Object[] defaults = new Object[components.length];
+        Property[] targets = new Property[components.length];
+        for (int c = 0; c < components.length; c++) {
+            RecordComponent component = components[c];
+            Field field = type.getDeclaredField(component.getName());
+            targets[c] = new Property(component.getType(), component.getGenericType(), null);
+            defaults[c] = defaultValue(component.getType());
+            for (String name : acceptedNames(component.getName(), field, component.getAccessor())) slots.put(name, c);
+        }
+
+        List<Binding> bindings = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < labels.length; i++) {
+            Integer slot = slots.get(labels[i]);
+            if (slot == null) continue;
+            bindings.add(new Binding(i + 1, targets[slot].target(), converter(targets[slot]), null));
+            positions.add(slot);
+        }
+        Binding[] plan = bindings.toArray(Binding[]::new);
+        int[] slotOf = positions.stream().mapToInt(Integer::intValue).toArray();
+
+        return rs -> {
+            Object[] args = defaults.clone();
+            for (int b = 0; b < plan.length; b++) {
+                Object value = plan[b].read(rs);
+                if (value != null || !plan[b].target().isPrimitive()) args[slotOf[b]] = value;
+            }
+            return type.cast(construct(factory, args));
+        };
+    }
+
+    private RowPlan<T> builderPlan(Method builderMethod, String[] labels) throws NoSuchMethodException, IllegalAccessException {
+        Class<?> builderType = builderMethod.getReturnType();
+        builderMethod.setAccessible(true);
+        MethodHandle newBuilder = LOOKUP.unreflect(builderMethod).asType(MethodType.methodType(Object.class));
+        Method buildMethod = builderType.getMethod("build");
+        buildMethod.setAccessible(true);
+        MethodHandle build = LOOKUP.unreflect(buildMethod).asType(MethodType.methodType(Object.class, Object.class));
+
+        Map<String, Property> properties = new HashMap<>();
+        for (Field field : instanceFields()) {
+            if (ignored(field)) continue;
+            Method fluent = findMethod(builderType, field.getName(), field.getType());
+            if (fluent == null) continue;
+            fluent.setAccessible(true);
+            Property property = new Property(field.getType(), field.getGenericType(), LOOKUP.unreflect(fluent).asType(FLUENT_TYPE));
+            for (String name : acceptedNames(field.getName(), field, null)) properties.put(name, property);
+        }
+
+        List<Binding> bindings = new ArrayList<>();
+        for (int i = 0; i < labels.length; i++) {
+            Property property = properties.get(labels[i]);
+            if (property != null) bindings.add(new Binding(i + 1, property.target(), converter(property), property.handle()));
+        }
+        Binding[] plan = bindings.toArray(Binding[]::new);
+
+        return rs -> {
+            Object builder = create(newBuilder);
+            for (Binding binding : plan) {
+                Object value = binding.read(rs);
+                if (value == null && binding.target().isPrimitive()) continue;
+                fluent(binding.handle(), builder, value);
+            }
+            return type.cast(build(build, builder));
+        };
+    }
+
+    private Map<String, Property> mutableProperties() throws IllegalAccessException {
+        Map<String, Property> properties = new HashMap<>();
+        Set<String> withSetter = new HashSet<>();
+
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) continue;
+            String name = method.getName();
+            if (name.length() <= 3 || !name.startsWith("set")) continue;
+            String property = propertyName(name.substring(3));
+            Field field = findField(property);
+            if (method.isAnnotationPresent(JsonIgnore.class) || (field != null && ignored(field))) continue;
+
+            method.setAccessible(true);
+            Property target = new Property(method.getParameterTypes()[0], method.getGenericParameterTypes()[0],
+                    LOOKUP.unreflect(method).asType(SETTER_TYPE));
+            for (String accepted : acceptedNames(property, field, method)) properties.put(accepted, target);
+            withSetter.add(property);
+        }
+
+        for (Field field : instanceFields()) {
+            if (withSetter.contains(field.getName()) || Modifier.isFinal(field.getModifiers()) || ignored(field)) continue;
+            if (!Modifier.isPublic(field.getModifiers()) && !hasGetter(field)) continue;
+            field.setAccessible(true);
+            Property target = new Property(field.getType(), field.getGenericType(), LOOKUP.unreflectSetter(field).asType(SETTER_TYPE));
+            for (String accepted : acceptedNames(field.getName(), field, null)) properties.putIfAbsent(accepted, target);
+        }
+        return properties;
+    }
+
+    private Function<Object, Object> converter(Property property) {
+        Class<?> target = box(property.target());
+        if (target == Object.class) return Function.identity();
+        JavaType javaType = objectMapper.getTypeFactory().constructType(property.genericType());
+        Function<Object, Object> jackson = value -> objectMapper.convertValue(value, javaType);
+
+        if (target == Long.class) return number(target, jackson, Number::longValue);
+        if (target == Integer.class) return number(target, jackson, Number::intValue);
+        if (target == Double.class) return number(target, jackson, Number::doubleValue);
+        if (target == Float.class) return number(target, jackson, Number::floatValue);
+        if (target == Short.class) return number(target, jackson, Number::shortValue);
+        if (target == Byte.class) return number(target, jackson, Number::byteValue);
+        if (target == BigDecimal.class) return number(target, jackson, n -> new BigDecimal(n.toString()));
+        if (target == BigInteger.class) return number(target, jackson, n -> new BigDecimal(n.toString()).toBigInteger());
+        if (target == LocalDateTime.class) return timestamp(target, jackson, i -> LocalDateTime.ofInstant(i, ZoneOffset.UTC));
+        if (target == OffsetDateTime.class) return timestamp(target, jackson, i -> OffsetDateTime.ofInstant(i, ZoneOffset.UTC));
+        if (target == ZonedDateTime.class) return timestamp(target, jackson, i -> ZonedDateTime.ofInstant(i, ZoneOffset.UTC));
+        if (target == Instant.class) return timestamp(target, jackson, instant -> instant);
+        if (target == LocalDate.class)
+            return value -> value instanceof java.sql.Date date ? date.toLocalDate() : target.isInstance(value) ? value : jackson.apply(value);
+        return value -> target.isInstance(value) ? value : jackson.apply(value);
+    }
+
+    private static Function<Object, Object> number(Class<?> target, Function<Object, Object> fallback, Function<Number, Object> conversion) {
+        return value -> {
+            if (target.isInstance(value)) return value;
+            if (value instanceof Number number) return conversion.apply(number);
+            return fallback.apply(value);
+        };
+    }
+
+    private static Function<Object, Object> timestamp(Class<?> target, Function<Object, Object> fallback, Function<Instant, Object> conversion) {
+        return value -> {
+            if (target.isInstance(value)) return value;
+            if (value instanceof Timestamp timestamp) return conversion.apply(timestamp.toInstant());
+            return fallback.apply(value);
+        };
+    }
+
+    private Constructor<T> noArgsConstructor() {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || Map.class.isAssignableFrom(type)) return null;
+        try {
+            return type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private Method builderMethod() {
+        try {
+            Method method = type.getDeclaredMethod("builder");
+            if (!Modifier.isStatic(method.getModifiers())) return null;
+            Method build = method.getReturnType().getMethod("build");
+            return type.isAssignableFrom(build.getReturnType()) ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private List<Field> instanceFields() {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass())
+            for (Field field : c.getDeclaredFields())
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field.isSynthetic())
+                    fields.add(field);
+        return fields;
+    }
+
+    private Field findField(String name) {
+        for (Field field : instanceFields()) if (field.getName().equals(name)) return field;
+        return null;
+    }
+
+    private boolean hasGetter(Field field) {
+        String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        return findMethod(type, "get" + suffix) != null || findMethod(type, "is" + suffix) != null;
+    }
+
+    private static Method findMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            return owner.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static boolean ignored(Field field) {
+        JsonIgnore ignore = field.getAnnotation(JsonIgnore.class);
+        return ignore != null && ignore.value();
+    }
+
+    private static Set<String> acceptedNames(String property, Field field, Method accessor) {
+        Set<String> names = new LinkedHashSet<>();
+        String primary = property;
+        for (AnnotatedElement element : new AnnotatedElement[]{field, accessor}) {
+            if (element == null) continue;
+            JsonProperty jsonProperty = element.getAnnotation(JsonProperty.class);
+            if (jsonProperty != null && !jsonProperty.value().isEmpty()) primary = jsonProperty.value();
+            JsonAlias alias = element.getAnnotation(JsonAlias.class);
+            if (alias != null) names.addAll(Arrays.asList(alias.value()));
+        }
+        names.add(primary);
+        return names;
+    }
+
+    private static String propertyName(String suffix) {
+        StringBuilder name = new StringBuilder(suffix);
+        for (int i = 0; i < name.length() && Character.isUpperCase(name.charAt(i)); i++)
+            name.setCharAt(i, Character.toLowerCase(name.charAt(i)));
+        return name.toString();
+    }
+
+    private static Class<?> box(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() ? java.lang.reflect.Array.get(java.lang.reflect.Array.newInstance(type, 1), 0) : null;
+    }
+
+    private static Object create(MethodHandle factory) {
+        try {
+            return (Object) factory.invokeExact();
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private static Object construct(MethodHandle factory, Object[] args) {
+        try {
+            return (Object) factory.invokeExact(args);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private static void set(MethodHandle setter, Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private static void fluent(MethodHandle method, Object builder, Object value) {
+        try {
+            Object ignored = (Object) method.invokeExact(builder, value);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private static Object build(MethodHandle build, Object builder) {
+        try {
+            return (Object) build.invokeExact(builder);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException e) return e;
+        if (t instanceof Error e) throw e;
+        return new RedshiftException(t);
+    }
+
+    @FunctionalInterface
+    private interface RowPlan<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    private record PlanKey(Class<?> type, String shape) {
+    }
+
+    private record Property(Class<?> target, Type genericType, MethodHandle handle) {
+    }
+
+    private record Binding(int index, Class<?> target, Function<Object, Object> converter, MethodHandle handle) {
+        Object read(ResultSet rs) throws SQLException {
+            Object value = rs.getObject(index);
+            return value == null ? null : converter.apply(value);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Eventos JFR dos builders, na categoria {@code Redshift Client}, para ver o tempo da biblioteca ao lado de
+ * GC, threads e I/O de uma gravação contínua. Todos levam o builder e o fingerprint da instrução.
+ *
+ * <p>Desativados (o padrão fora de uma gravação que os habilite), custam só a verificação de
+ * {@link #statementEnabled()}: os builders seguem pela execução sem medição do {@link Telemetry}.</p>
+ */
+final class JdbcEvents {
+
+    private static final String CATEGORY = "Redshift Client";
+
+    private static final EventType STATEMENT = EventType.getEventType(StatementExecuted.class);
+    private static final EventType CONNECTION = EventType.getEventType(ConnectionAcquired.class);
+    private static final EventType CHUNK = EventType.getEventType(BatchChunkFlushed.class);
+    private static final EventType ROWS = EventType.getEventType(RowsMapped.class);
+
+    private JdbcEvents() {
+    }
+
+    /**
+     * Algum evento de execução está ativo na gravação atual.
+     */
+    static boolean statementEnabled() {
+        return STATEMENT.isEnabled() || CONNECTION.isEnabled() || CHUNK.isEnabled() || ROWS.isEnabled();
+    }
+
+    @Name("com.wellalmeida31.redshift.StatementExecuted")
+    @Label("Statement Executed")
+    @Category(CATEGORY)
+    @Description("A terminal call of a RedshiftFunctionalJdbc builder, from connection acquire to the last row")
+    static final class StatementExecuted extends Event {
+        @Label("Builder")
+        String builder;
+
+        @Label("Fingerprint")
+        String fingerprint;
+
+        @Label("SQL")
+        @Description("Statement with literals replaced by ?")
+        String sql;
+
+        @Label("Rows")
+        long rows;
+
+        @Label("Batches")
+        int batches;
+
+        @Label("Failed")
+        boolean failed;
+
+        @Label("Acquire Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long acquireTime;
+
+        @Label("Prepare Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long prepareTime;
+
+        @Label("Execute Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long executeTime;
+
+        @Label("Fetch Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long fetchTime;
+
+        @Label("Map Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long mapTime;
+
+        @Label("Handler Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long handlerTime;
+    }
+
+    @Name("com.wellalmeida31.redshift.ConnectionAcquired")
+    @Label("Connection Acquired")
+    @Category(CATEGORY)
+    @Description("Wait for a connection from the DataSource")
+    static final class ConnectionAcquired extends Event {
+        @Label("Builder")
+        String builder;
+
+        @Label("Fingerprint")
+        String fingerprint;
+    }
+
+    @Name("com.wellalmeida31.redshift.BatchChunkFlushed")
+    @Label("Batch Chunk Flushed")
+    @Category(CATEGORY)
+    @Description("One executeBatch() or rewritten multi-row INSERT sent to the database")
+    @StackTrace(false)
+    static final class BatchChunkFlushed extends Event {
+        @Label("Builder")
+        String builder;
+
+        @Label("Fingerprint")
+        String fingerprint;
+
+        @Label("Rows")
+        int rows;
+    }
+
+    @Name("com.wellalmeida31.redshift.RowsMapped")
+    @Label("Rows Mapped")
+    @Category(CATEGORY)
+    @Description("Rows read and mapped by one terminal call; the duration spans the first to the last row")
+    static final class RowsMapped extends Event {
+        @Label("Builder")
+        String builder;
+
+        @Label("Fingerprint")
+        String fingerprint;
+
+        @Label("Rows")
+        long rows;
+
+        @Label("Fetch Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long fetchTime;
+
+        @Label("Map Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long mapTime;
+    }
+
+    @Name("com.wellalmeida31.redshift.ValidationPerformed")
+    @Label("Validation Performed")
+    @Category(CATEGORY)
+    @Description("SQL validation of a builder query; cached verdicts are not tokenized again")
+    @StackTrace(false)
+    static final class ValidationPerformed extends Event {
+        @Label("Kind")
+        String kind;
+
+        @Label("Fingerprint")
+        String fingerprint;
+
+        @Label("Valid")
+        boolean valid;
+
+        @Label("Cached")
+        boolean cached;
+
+        @Label("Length")
+        @Description("SQL length in characters")
+        int length;
+    }
+}
@@ -0,0 +1,320 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.wellalmeida31.redshift_client.exception.RedshiftException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Unidade de trabalho de {@code inSession}/{@code inTransaction}: os builders criados aqui usam a mesma
+ * conexão, e cada texto SQL repetido reaproveita o seu {@link PreparedStatement} (até
+ * {@value #MAX_CACHED_STATEMENTS} textos distintos).
+ *
+ * <p>Em {@code inTransaction} a conexão fica sem auto-commit do início ao fim: os {@code commit()} dos
+ * builders (por exemplo {@code commitEvery} do {@code JdbcBatchUpdate}) são adiados para o único commit do
+ * final, e qualquer exceção desfaz tudo. A sessão pertence à thread que a abriu; não use {@code parallelism},
+ * {@code partitionBy}, variantes {@code *Async}, {@code publish} nem {@code executeCoalesced} com builders da sessão
+ * (são rejeitados).</p>
+ *
+ * <p>O {@code stream} não mexe no auto-commit da sessão: em {@code inSession} o driver só usa cursor no
+ * servidor ({@code fetchSize}) se a conexão estiver sem auto-commit, então prefira {@code inTransaction}
+ * para ler resultados grandes sob demanda.</p>
+ *
+ * <p>Os builders da sessão começam com o mesmo {@code queryTimeout} dos criados pelo {@code RedshiftFunctionalJdbc}
+ * ({@code redshift.query.timeout}) e são instrumentados pela mesma {@link Telemetry} (Micrometer, profiler e JFR).</p>
+ */
+@Slf4j
+public final class JdbcSession {
+
+    static final int MAX_CACHED_STATEMENTS = 64;
+
+    private final Connection connection;
+    private final boolean transactional;
+    private final Duration queryTimeout;
+    private final Telemetry telemetry;
+    private final Map<StatementKey, SessionStatement> statements = new LinkedHashMap<>();
+    private final SessionDataSource dataSource = new SessionDataSource();
+    private final Connection sessionConnection;
+    private int prepared;
+    private int reused;
+
+    private JdbcSession(Connection connection, boolean transactional, Duration queryTimeout, Telemetry telemetry) {
+        this.connection = connection;
+        this.transactional = transactional;
+        this.queryTimeout = queryTimeout;
+        this.telemetry = telemetry;
+        this.sessionConnection = (Connection) Proxy.newProxyInstance(JdbcSession.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler());
+    }
+
+    static <R> R run(DataSource dataSource, boolean transactional, Duration queryTimeout, Telemetry telemetry,
+                     RedshiftFunctionalJdbc.SQLFunction<JdbcSession, R> work) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            if (transactional) connection.setAutoCommit(false);
+            JdbcSession session = new JdbcSession(connection, transactional, queryTimeout, telemetry);
+            try {
+                R result = work.apply(session);
+                session.closeStatements();
+                if (transactional) connection.commit();
+                log.debug("Session finished: {} statements prepared, {} reused", session.prepared, session.reused);
+                return result;
+            } catch (SQLException | RuntimeException | Error e) {
+                session.closeStatements();
+                if (transactional) {
+                    try {
+                        connection.rollback();
+                    } catch (SQLException rollbackError) {
+                        e.addSuppressed(rollbackError);
+                    }
+                }
+                throw e;
+            } finally {
+                if (transactional) {
+                    try {
+                        connection.setAutoCommit(autoCommit);
+                    } catch (SQLException e) {
+                        log.error("Error while restoring auto-commit", e);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RedshiftException(e);
+        }
+    }
+
+    static boolean isSession(DataSource dataSource) {
+        return dataSource instanceof SessionDataSource;
+    }
+
+    static void rejectInSession(DataSource dataSource, String option) {
+        if (isSession(dataSource)) throw new IllegalArgumentException(option + " cannot be used inside a session.");
+    }
+
+    public RedshiftFunctionalJdbc.JdbcQuery jdbcQuery() {
+        return new RedshiftFunctionalJdbc.JdbcQuery(dataSource)
+                .queryTimeout(queryTimeout)
+                .telemetry(telemetry);
+    }
+
+    public RedshiftFunctionalJdbc.JdbcUpdate jdbcUpdate() {
+        return new RedshiftFunctionalJdbc.JdbcUpdate(dataSource, () -> {
+            throw new IllegalStateException("executeCoalesced is not available inside a session");
+        }).queryTimeout(queryTimeout).telemetry(telemetry);
+    }
+
+    public RedshiftFunctionalJdbc.JdbcBatchUpdate jdbcBatchUpdate() {
+        return new RedshiftFunctionalJdbc.JdbcBatchUpdate(dataSource)
+                .queryTimeout(queryTimeout)
+                .telemetry(telemetry);
+    }
+
+    public RedshiftFunctionalJdbc.JdbcUpdateMv jdbcUpdateMv() {
+        return new RedshiftFunctionalJdbc.JdbcUpdateMv(dataSource)
+                .queryTimeout(queryTimeout)
+                .telemetry(telemetry);
+    }
+
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    /**
+     * Instruções preparadas no banco até aqui; as reutilizações do cache não contam.
+     */
+    public int preparedStatements() {
+        return prepared;
+    }
+
+    public int reusedStatements() {
+        return reused;
+    }
+
+    private PreparedStatement prepare(StatementKey key) throws SQLException {
+        SessionStatement cached = statements.get(key);
+        if (cached != null && !cached.inUse) {
+            cached.inUse = true;
+            reused++;
+            return cached.proxy;
+        }
+        PreparedStatement statement = key.resultSetType() == 0
+                ? connection.prepareStatement(key.sql())
+                : connection.prepareStatement(key.sql(), key.resultSetType(), key.resultSetConcurrency());
+        prepared++;
+        boolean cache = cached == null && statements.size() < MAX_CACHED_STATEMENTS;
+        SessionStatement session = new SessionStatement(statement, cache);
+        if (cache) statements.put(key, session);
+        return session.proxy;
+    }
+
+    private void closeStatements() {
+        for (SessionStatement cached : statements.values()) {
+            try {
+                cached.statement.close();
+            } catch (SQLException e) {
+                log.error("Error while closing a session statement", e);
+            }
+        }
+        statements.clear();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record StatementKey(String sql, int resultSetType, int resultSetConcurrency) {
+    }
+
+    /**
+     * Statement entregue aos builders: {@code getConnection()} devolve a conexão da sessão e, se estiver no
+     * cache, o {@code close()} só limpa parâmetros e lote, volta timeout, fetch size e max rows ao padrão e
+     * libera o statement para o próximo uso.
+     */
+    private final class SessionStatement implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private final boolean cached;
+        private boolean inUse = true;
+
+        SessionStatement(PreparedStatement statement, boolean cached) {
+            this.statement = statement;
+            this.cached = cached;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(JdbcSession.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!cached) statement.close();
+                    else if (inUse) {
+                        inUse = false;
+                        statement.clearParameters();
+                        statement.clearBatch();
+                        statement.setQueryTimeout(0);
+                        statement.setFetchSize(0);
+                        statement.setMaxRows(0);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return cached ? !inUse || statement.isClosed() : statement.isClosed();
+                }
+                case "getConnection" -> {
+                    return sessionConnection;
+                }
+                case "unwrap" -> {
+                    return ((Class<?>) args[0]).isInstance(proxy) ? proxy : statement.unwrap((Class<?>) args[0]);
+                }
+                default -> {
+                    return JdbcSession.invoke(statement, method, args);
+                }
+            }
+        }
+    }
+
+    /**
+     * Conexão vista pelos builders: {@code close()} não devolve a conexão ao pool e, em transação, o controle
+     * de commit fica com a sessão.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    return null;
+                }
+                case "commit", "setAutoCommit" -> {
+                    return transactional ? null : JdbcSession.invoke(connection, method, args);
+                }
+                case "rollback" -> {
+                    return transactional && args == null ? null : JdbcSession.invoke(connection, method, args);
+                }
+                case "prepareStatement" -> {
+                    if (args.length == 1)
+                        return prepare(new StatementKey((String) args[0], 0, 0));
+                    if (args.length == 3 && args[1] instanceof Integer type && args[2] instanceof Integer concurrency) {
+                        int forwardOnly = type == ResultSet.TYPE_FORWARD_ONLY && concurrency == ResultSet.CONCUR_READ_ONLY ? 0 : type;
+                        return prepare(new StatementKey((String) args[0], forwardOnly, forwardOnly == 0 ? 0 : concurrency));
+                    }
+                    return JdbcSession.invoke(connection, method, args);
+                }
+                case "unwrap" -> {
+                    return ((Class<?>) args[0]).isInstance(proxy) ? proxy : connection.unwrap((Class<?>) args[0]);
+                }
+                default -> {
+                    return JdbcSession.invoke(connection, method, args);
+                }
+            }
+        }
+    }
+
+    private final class SessionDataSource implements DataSource {
+
+        @Override
+        public Connection getConnection() {
+            return sessionConnection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return sessionConnection;
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+            // sem log próprio
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+            // a conexão já está aberta
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            if (iface.isInstance(this)) return iface.cast(this);
+            throw new SQLException("Not a wrapper for " + iface.getName());
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return iface.isInstance(this);
+        }
+    }
+}
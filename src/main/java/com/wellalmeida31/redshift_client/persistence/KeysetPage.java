@@ -0,0 +1,24 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.util.List;
+
+/**
+ * Página de uma consulta paginada por keyset (seek).
+ *
+ * <p>{@code nextToken} é opaco e carrega os valores das chaves de ordenação da última linha;
+ * basta devolvê-lo em {@code JdbcQueryPage.continuationToken(...)} para buscar a próxima página.
+ * É {@code null} quando não existem mais linhas.</p>
+ *
+ * @param content elementos da página
+ * @param nextToken token de continuação ou {@code null} na última página
+ */
+public record KeysetPage<T>(List<T> content, String nextToken) {
+
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    public int size() {
+        return content.size();
+    }
+}
@@ -0,0 +1,97 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wellalmeida31.redshift_client.exception.RedshiftException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codifica / decodifica o token de continuação da paginação por keyset.
+ *
+ * <p>O token é um JSON em Base64 (URL safe) com as colunas de ordenação e os valores da última
+ * linha, cada valor acompanhado do seu tipo para que seja vinculado novamente com o mesmo tipo JDBC.</p>
+ */
+final class KeysetToken {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private KeysetToken() {}
+
+    static String encode(List<String> columns, Object[] values) {
+        List<List<String>> typed = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) typed.add(List.of(tag(columns.get(i), values[i]), values[i].toString()));
+
+        Map<String, Object> token = new LinkedHashMap<>();
+        token.put("c", columns);
+        token.put("v", typed);
+        try {
+            byte[] json = MAPPER.writeValueAsString(token).getBytes(StandardCharsets.UTF_8);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new RedshiftException("Unable to encode continuation token", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object[] decode(String token, List<String> columns) {
+        Map<String, Object> decoded;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            decoded = MAPPER.readValue(json, Map.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new RedshiftException("Invalid continuation token", e);
+        }
+
+        if (!columns.equals(decoded.get("c")))
+            throw new RedshiftException("Continuation token does not match the sort keys " + columns);
+
+        try {
+            List<List<String>> typed = (List<List<String>>) decoded.get("v");
+            Object[] values = new Object[typed.size()];
+            for (int i = 0; i < values.length; i++) values[i] = value(typed.get(i).get(0), typed.get(i).get(1));
+            return values;
+        } catch (ClassCastException | IllegalArgumentException | IndexOutOfBoundsException | NullPointerException e) {
+            throw new RedshiftException("Invalid continuation token", e);
+        }
+    }
+
+    private static String tag(String column, Object value) {
+        return switch (value) {
+            case String ignored -> "s";
+            case Integer ignored -> "i";
+            case Long ignored -> "l";
+            case Short ignored -> "h";
+            case BigDecimal ignored -> "n";
+            case Double ignored -> "d";
+            case Float ignored -> "f";
+            case Boolean ignored -> "b";
+            case Timestamp ignored -> "t";
+            case java.sql.Date ignored -> "D";
+            default -> throw new RedshiftException("Unsupported keyset column type for " + column + ": " + value.getClass());
+        };
+    }
+
+    private static Object value(String tag, String text) {
+        return switch (tag) {
+            case "s" -> text;
+            case "i" -> Integer.valueOf(text);
+            case "l" -> Long.valueOf(text);
+            case "h" -> Short.valueOf(text);
+            case "n" -> new BigDecimal(text);
+            case "d" -> Double.valueOf(text);
+            case "f" -> Float.valueOf(text);
+            case "b" -> Boolean.valueOf(text);
+            case "t" -> Timestamp.valueOf(text);
+            case "D" -> java.sql.Date.valueOf(text);
+            default -> throw new RedshiftException("Invalid continuation token");
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latência em microssegundos com memória fixa, no estilo do HdrHistogram: cada potência de 2
+ * é dividida em {@value #SUB_BUCKETS} faixas lineares, então um percentil tem erro relativo de no máximo
+ * 1/{@value #SUB_BUCKETS} (cerca de 6%). Cobre de 1 µs a aproximadamente 25 dias em
+ * {@value #BUCKETS} contadores; valores maiores caem na última faixa.
+ */
+final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int MAX_MAGNITUDE = 40;
+    static final int BUCKETS = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    void record(long micros) {
+        counts.incrementAndGet(index(micros));
+    }
+
+    /**
+     * Maior valor equivalente ao percentil {@code percentile} (0 a 100) dos histogramas somados, em µs.
+     */
+    static long percentile(double percentile, LatencyHistogram... histograms) {
+        long total = 0;
+        for (LatencyHistogram histogram : histograms) {
+            for (int i = 0; i < BUCKETS; i++) total += histogram.counts.get(i);
+        }
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            for (LatencyHistogram histogram : histograms) seen += histogram.counts.get(i);
+            if (seen >= rank) return highestEquivalent(i);
+        }
+        return highestEquivalent(BUCKETS - 1);
+    }
+
+    static int index(long micros) {
+        if (micros < SUB_BUCKETS) return (int) Math.max(micros, 0);
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        if (magnitude > MAX_MAGNITUDE) return BUCKETS - 1;
+        int sub = (int) (micros >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long highestEquivalent(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,48 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * {@link Stager} em sistema de arquivos local.
+ *
+ * <p>O {@code COPY} do Redshift não lê arquivos da máquina da aplicação: {@code directory} deve ser um
+ * diretório sincronizado ou montado a partir do bucket (Mountpoint for Amazon S3, s3fs etc.) e
+ * {@code copyFrom} o prefixo equivalente visto pelo Redshift, por exemplo {@code s3://bucket/staging/}.</p>
+ */
+public final class LocalStager implements Stager {
+
+    private final Path directory;
+    private final String copyFrom;
+
+    public LocalStager(Path directory, String copyFrom) {
+        this.directory = Objects.requireNonNull(directory, "directory is null");
+        Objects.requireNonNull(copyFrom, "copyFrom is null");
+        this.copyFrom = copyFrom.endsWith("/") ? copyFrom : copyFrom + "/";
+    }
+
+    @Override
+    public OutputStream create(String loadId, String partName) throws IOException {
+        Path load = Files.createDirectories(directory.resolve(loadId));
+        return Files.newOutputStream(load.resolve(partName));
+    }
+
+    @Override
+    public String location(String loadId) {
+        return copyFrom + loadId + "/";
+    }
+
+    @Override
+    public void cleanup(String loadId) throws IOException {
+        Path load = directory.resolve(loadId);
+        if (!Files.exists(load)) return;
+        try (Stream<Path> paths = Files.walk(load)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.delete(path);
+        }
+    }
+}
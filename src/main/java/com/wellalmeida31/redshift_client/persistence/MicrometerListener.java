@@ -0,0 +1,103 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.BeanFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica as execuções no {@link MeterRegistry}: um timer por fase ({@code redshift.client.phase}), o tempo
+ * total por resultado ({@code redshift.client.execution}) e contadores de linhas e lotes, todos com as tags
+ * {@code builder} e {@code fingerprint}.
+ *
+ * <p>Única classe que referencia o Micrometer; só é carregada quando ele está no classpath. Acima de
+ * {@value #MAX_FINGERPRINTS} fingerprints distintos, os novos usam a tag {@code other}.</p>
+ */
+final class MicrometerListener implements Telemetry.ExecutionListener {
+
+    static final int MAX_FINGERPRINTS = 500;
+    private static final String OTHER = "other";
+
+    private final MeterRegistry registry;
+    private final Set<String> fingerprints = ConcurrentHashMap.newKeySet();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    private MicrometerListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    static Telemetry.ExecutionListener lookup(BeanFactory beanFactory) {
+        MeterRegistry registry = beanFactory.getBeanProvider(MeterRegistry.class).getIfAvailable();
+        return registry == null ? null : new MicrometerListener(registry);
+    }
+
+    @Override
+    public void executed(Telemetry.ExecutionRecord record) {
+        Meters m = meters.computeIfAbsent(record.builder() + ':' + tag(record.fingerprint()),
+                key -> new Meters(record.builder(), key.substring(record.builder().length() + 1)));
+        record(m.acquire, record.acquireNanos());
+        record(m.prepare, record.prepareNanos());
+        record(m.execute, record.executeNanos());
+        record(m.fetch, record.fetchNanos());
+        record(m.map, record.mapNanos());
+        record(m.handler, record.handlerNanos());
+        (record.failed() ? m.error : m.success).record(record.totalNanos(), TimeUnit.NANOSECONDS);
+        if (record.rows() > 0) m.rows.increment(record.rows());
+        if (record.batches() > 0) m.batches.increment(record.batches());
+    }
+
+    private String tag(SqlFingerprint fingerprint) {
+        String id = fingerprint.id();
+        if (fingerprints.contains(id)) return id;
+        if (fingerprints.size() >= MAX_FINGERPRINTS) return OTHER;
+        fingerprints.add(id);
+        return id;
+    }
+
+    private static void record(Timer timer, long nanos) {
+        if (nanos > 0) timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final class Meters {
+        final Timer acquire;
+        final Timer prepare;
+        final Timer execute;
+        final Timer fetch;
+        final Timer map;
+        final Timer handler;
+        final Timer success;
+        final Timer error;
+        final Counter rows;
+        final Counter batches;
+
+        Meters(String builder, String fingerprint) {
+            acquire = phase(builder, fingerprint, "acquire");
+            prepare = phase(builder, fingerprint, "prepare");
+            execute = phase(builder, fingerprint, "execute");
+            fetch = phase(builder, fingerprint, "fetch");
+            map = phase(builder, fingerprint, "map");
+            handler = phase(builder, fingerprint, "handler");
+            success = execution(builder, fingerprint, "success");
+            error = execution(builder, fingerprint, "error");
+            rows = Counter.builder("redshift.client.rows").description("Rows read, written or sent in batches")
+                    .baseUnit("rows").tag("builder", builder).tag("fingerprint", fingerprint).register(registry);
+            batches = Counter.builder("redshift.client.batches").description("Batch chunks executed")
+                    .tag("builder", builder).tag("fingerprint", fingerprint).register(registry);
+        }
+
+        private Timer phase(String builder, String fingerprint, String phase) {
+            return Timer.builder("redshift.client.phase").description("Time spent in each execution phase")
+                    .tag("builder", builder).tag("fingerprint", fingerprint).tag("phase", phase).register(registry);
+        }
+
+        private Timer execution(String builder, String fingerprint, String outcome) {
+            return Timer.builder("redshift.client.execution").description("Total execution time")
+                    .tag("builder", builder).tag("fingerprint", fingerprint).tag("outcome", outcome).register(registry);
+        }
+    }
+}
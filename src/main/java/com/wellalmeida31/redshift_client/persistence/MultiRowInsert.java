@@ -0,0 +1,123 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+/**
+ * Modelo de um {@code INSERT ... VALUES (?, ...)} simples, reescrito como
+ * {@code INSERT ... VALUES (...), (...), ...} com várias linhas por instrução.
+ *
+ * <p>Só é elegível um INSERT com uma única tupla em {@code VALUES}, ao menos um {@code ?} nela e
+ * nenhum parâmetro ou cláusula depois dela ({@code INSERT ... SELECT}, várias tuplas etc. ficam fora).</p>
+ */
+final class MultiRowInsert {
+
+    private final String prefix;
+    private final String tuple;
+    private final int parametersPerRow;
+
+    private MultiRowInsert(String prefix, String tuple, int parametersPerRow) {
+        this.prefix = prefix;
+        this.tuple = tuple;
+        this.parametersPerRow = parametersPerRow;
+    }
+
+    /**
+     * Devolve o modelo da instrução ou {@code null} quando ela não é um INSERT reescrevível.
+     */
+    static MultiRowInsert parse(String sql) {
+        if (sql == null) return null;
+        int n = sql.length();
+        int i = 0;
+        int depth = 0;
+        int values = -1;
+        int tupleStart = -1;
+        int tupleEnd = -1;
+        int parameters = 0;
+        boolean first = true;
+
+        while (i < n) {
+            char c = sql.charAt(i);
+            char next = i + 1 < n ? sql.charAt(i + 1) : 0;
+
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            } else if (c == '-' && next == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? n : end;
+                continue;
+            } else if (c == '/' && next == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? n : end + 2;
+                continue;
+            } else if (c == ';' && depth == 0) {
+                i++;
+                continue;
+            }
+
+            if (tupleEnd >= 0) return null;
+
+            if (c == '\'') {
+                i = SqlValidator.skipQuoted(sql, i, '\'', true);
+            } else if (c == '"') {
+                i = SqlValidator.skipQuoted(sql, i, '"', false);
+            } else if (c == '$' && SqlValidator.dollarTagEnd(sql, i) > 0) {
+                int tagEnd = SqlValidator.dollarTagEnd(sql, i);
+                int end = sql.indexOf(sql.substring(i, tagEnd), tagEnd);
+                i = end < 0 ? n : end + (tagEnd - i);
+            } else if (Character.isLetter(c) || c == '_') {
+                int j = i + 1;
+                while (j < n && (Character.isLetterOrDigit(sql.charAt(j)) || sql.charAt(j) == '_' || sql.charAt(j) == '$')) j++;
+                String word = sql.substring(i, j);
+                if (first && !word.equalsIgnoreCase("INSERT")) return null;
+                if (depth == 0 && word.equalsIgnoreCase("VALUES")) {
+                    if (values >= 0) return null;
+                    values = j;
+                } else if (depth == 0 && values >= 0) {
+                    return null;
+                }
+                i = j;
+            } else if (c == '(') {
+                if (depth == 0 && values >= 0) {
+                    if (tupleStart >= 0) return null;
+                    tupleStart = i;
+                }
+                depth++;
+                i++;
+            } else if (c == ')') {
+                if (--depth < 0) return null;
+                if (depth == 0 && tupleStart >= 0) tupleEnd = i + 1;
+                i++;
+            } else if (c == '?') {
+                if (tupleStart < 0) return null;
+                parameters++;
+                i++;
+            } else {
+                if (depth == 0 && values >= 0) return null;
+                i++;
+            }
+            first = false;
+        }
+
+        if (tupleEnd < 0 || parameters == 0) return null;
+        return new MultiRowInsert(sql.substring(0, values) + " ", sql.substring(tupleStart, tupleEnd), parameters);
+    }
+
+    int parametersPerRow() {
+        return parametersPerRow;
+    }
+
+    /**
+     * Linhas por instrução: limitada por {@code maxRows}, pelo total de parâmetros e pelo tamanho do texto.
+     */
+    int rowsPerStatement(int maxRows, int maxParameters, int maxLength) {
+        int byParameters = maxParameters / parametersPerRow;
+        int byLength = (maxLength - prefix.length()) / (tuple.length() + 1);
+        return Math.max(1, Math.min(maxRows, Math.min(byParameters, byLength)));
+    }
+
+    String statement(int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (tuple.length() + 1));
+        sql.append(prefix).append(tuple);
+        for (int r = 1; r < rows; r++) sql.append(',').append(tuple);
+        return sql.toString();
+    }
+}
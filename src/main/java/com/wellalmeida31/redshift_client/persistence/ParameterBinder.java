@@ -0,0 +1,124 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vinculador de parâmetros compilado uma vez por assinatura de tipos (classe de cada posição).
+ *
+ * <p>Em vez de um {@code switch} por valor a cada linha, cada posição recebe o setter JDBC do seu
+ * tipo na primeira linha; as linhas seguintes apenas conferem a classe do valor e chamam o setter.
+ * Valores {@code null} ou de tipo diferente da assinatura caem no despacho dinâmico
+ * {@link #bindValue(PreparedStatement, int, Object)}.</p>
+ *
+ * <p>Tipos suportados: String, Integer, Long, Short, Double, Float, Boolean, BigDecimal, UUID
+ * (como texto), byte[], Timestamp, java.sql.Date, java.util.Date, LocalDateTime, LocalDate,
+ * Instant e OffsetDateTime.</p>
+ */
+public final class ParameterBinder {
+
+    private static final int MAX_CACHED_BINDERS = 256;
+    private static final Map<List<Class<?>>, ParameterBinder> BINDERS = new ConcurrentHashMap<>();
+
+    private static final Setter DYNAMIC = ParameterBinder::bindValue;
+    private static final Map<Class<?>, Setter> SETTERS = Map.ofEntries(
+            Map.entry(String.class, (ps, i, v) -> ps.setString(i, (String) v)),
+            Map.entry(Integer.class, (ps, i, v) -> ps.setInt(i, (Integer) v)),
+            Map.entry(Long.class, (ps, i, v) -> ps.setLong(i, (Long) v)),
+            Map.entry(Short.class, (ps, i, v) -> ps.setShort(i, (Short) v)),
+            Map.entry(Double.class, (ps, i, v) -> ps.setDouble(i, (Double) v)),
+            Map.entry(Float.class, (ps, i, v) -> ps.setFloat(i, (Float) v)),
+            Map.entry(Boolean.class, (ps, i, v) -> ps.setBoolean(i, (Boolean) v)),
+            Map.entry(BigDecimal.class, (ps, i, v) -> ps.setBigDecimal(i, (BigDecimal) v)),
+            Map.entry(UUID.class, (ps, i, v) -> ps.setString(i, v.toString())),
+            Map.entry(byte[].class, (ps, i, v) -> ps.setBytes(i, (byte[]) v)),
+            Map.entry(Timestamp.class, (ps, i, v) -> ps.setTimestamp(i, (Timestamp) v)),
+            Map.entry(java.sql.Date.class, (ps, i, v) -> ps.setDate(i, (java.sql.Date) v)),
+            Map.entry(java.util.Date.class, (ps, i, v) -> ps.setTimestamp(i, new Timestamp(((java.util.Date) v).getTime()))),
+            Map.entry(LocalDateTime.class, (ps, i, v) -> ps.setTimestamp(i, Timestamp.valueOf((LocalDateTime) v))),
+            Map.entry(LocalDate.class, (ps, i, v) -> ps.setDate(i, java.sql.Date.valueOf((LocalDate) v))),
+            Map.entry(Instant.class, (ps, i, v) -> ps.setTimestamp(i, Timestamp.from((Instant) v))),
+            Map.entry(OffsetDateTime.class, (ps, i, v) -> ps.setTimestamp(i, Timestamp.from(((OffsetDateTime) v).toInstant())))
+    );
+
+    private final Class<?>[] types;
+    private final Setter[] setters;
+
+    private ParameterBinder(Class<?>[] types) {
+        this.types = types;
+        this.setters = new Setter[types.length];
+        for (int i = 0; i < types.length; i++) setters[i] = types[i] == null ? DYNAMIC : SETTERS.getOrDefault(types[i], DYNAMIC);
+    }
+
+    /**
+     * Devolve o vinculador (em cache) para a assinatura de tipos da linha de exemplo.
+     */
+    public static ParameterBinder of(List<?> sample) {
+        Class<?>[] types = new Class<?>[sample.size()];
+        for (int i = 0; i < types.length; i++) {
+            Object value = sample.get(i);
+            types[i] = value == null ? null : value.getClass();
+        }
+        List<Class<?>> signature = Arrays.asList(types);
+        ParameterBinder binder = BINDERS.get(signature);
+        if (binder == null) {
+            binder = new ParameterBinder(types);
+            if (BINDERS.size() >= MAX_CACHED_BINDERS) BINDERS.clear();
+            BINDERS.put(signature, binder);
+        }
+        return binder;
+    }
+
+    public void bind(PreparedStatement ps, List<?> values) throws SQLException {
+        bind(ps, 0, values);
+    }
+
+    /**
+     * Vincula os valores a partir da posição {@code offset + 1}.
+     */
+    public void bind(PreparedStatement ps, int offset, List<?> values) throws SQLException {
+        boolean sameShape = values.size() == types.length;
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            int index = offset + i + 1;
+            if (value == null) ps.setNull(index, Types.NULL);
+            else if (sameShape && value.getClass() == types[i]) setters[i].set(ps, index, value);
+            else bindValue(ps, index, value);
+        }
+    }
+
+    /**
+     * Despacho dinâmico por tipo, usado quando o valor não corresponde à assinatura compilada.
+     */
+    public static void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.NULL);
+            return;
+        }
+        Setter setter = SETTERS.get(value.getClass());
+        if (setter != null) {
+            setter.set(ps, index, value);
+            return;
+        }
+        switch (value) {
+            case Timestamp timestamp -> ps.setTimestamp(index, timestamp);
+            case java.sql.Date date -> ps.setDate(index, date);
+            case java.util.Date date -> ps.setTimestamp(index, new Timestamp(date.getTime()));
+            default -> throw new IllegalArgumentException("Unsupported parameter type: " + value.getClass());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Setter {
+        void set(PreparedStatement ps, int index, Object value) throws SQLException;
+    }
+}
@@ -0,0 +1,90 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Linha de parâmetros tipada: cada chamada vincula o próximo {@code ?} da instrução, sem converter
+ * primitivos em objetos. Reutilizada entre as linhas de um lote.
+ *
+ * <pre>{@code
+ * batchUpdate.addBatchRows(items, (row, item) -> row
+ *         .setLong(item.getId())
+ *         .setString(item.getName())
+ *         .setDouble(item.getPrice()));
+ * }</pre>
+ */
+public final class ParameterRow {
+
+    private PreparedStatement ps;
+    private int index;
+
+    ParameterRow reset(PreparedStatement ps, int offset) {
+        this.ps = ps;
+        this.index = offset;
+        return this;
+    }
+
+    public ParameterRow setLong(long value) throws SQLException {
+        ps.setLong(++index, value);
+        return this;
+    }
+
+    public ParameterRow setInt(int value) throws SQLException {
+        ps.setInt(++index, value);
+        return this;
+    }
+
+    public ParameterRow setDouble(double value) throws SQLException {
+        ps.setDouble(++index, value);
+        return this;
+    }
+
+    public ParameterRow setFloat(float value) throws SQLException {
+        ps.setFloat(++index, value);
+        return this;
+    }
+
+    public ParameterRow setBoolean(boolean value) throws SQLException {
+        ps.setBoolean(++index, value);
+        return this;
+    }
+
+    public ParameterRow setString(String value) throws SQLException {
+        ps.setString(++index, value);
+        return this;
+    }
+
+    public ParameterRow setBigDecimal(BigDecimal value) throws SQLException {
+        ps.setBigDecimal(++index, value);
+        return this;
+    }
+
+    public ParameterRow setNull(int sqlType) throws SQLException {
+        ps.setNull(++index, sqlType);
+        return this;
+    }
+
+    /**
+     * Vincula qualquer tipo suportado por {@link ParameterBinder}.
+     */
+    public ParameterRow set(Object value) throws SQLException {
+        ParameterBinder.bindValue(ps, ++index, value);
+        return this;
+    }
+
+    ParameterRow bind(ParameterBinder binder, List<?> values) throws SQLException {
+        binder.bind(ps, index, values);
+        index += values.size();
+        return this;
+    }
+
+    /**
+     * Índice do último parâmetro vinculado.
+     */
+    int position() {
+        return index;
+    }
+}
@@ -0,0 +1,116 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Divide o intervalo {@code [lower, upper]} de uma coluna numérica ou de data/hora em faixas de mesmo
+ * tamanho para a consulta particionada do {@code JdbcQuery}.
+ *
+ * <p>Devolve os limites internos em ordem crescente e sem repetição: {@code n} limites formam {@code n + 1}
+ * faixas. Intervalos curtos (por exemplo inteiros de 1 a 3 em 8 partes) geram menos faixas.</p>
+ */
+final class PartitionRanges {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private PartitionRanges() {
+    }
+
+    static List<Object> boundaries(Object lower, Object upper, int parts) {
+        if (lower == null || upper == null) throw new IllegalArgumentException("Partition bounds cannot be null.");
+        if (lower instanceof Number low && upper instanceof Number high) return numeric(low, high, parts);
+        if (lower.getClass() != upper.getClass())
+            throw new IllegalArgumentException("Partition bounds must have the same type: " + lower.getClass() + ", " + upper.getClass());
+
+        return switch (lower) {
+            case Timestamp low -> temporal(micros(low), micros((Timestamp) upper), parts, PartitionRanges::timestamp);
+            case Date low -> temporal(low.toLocalDate().toEpochDay(), ((Date) upper).toLocalDate().toEpochDay(), parts,
+                    day -> Date.valueOf(LocalDate.ofEpochDay(day)));
+            case LocalDate low -> temporal(low.toEpochDay(), ((LocalDate) upper).toEpochDay(), parts, LocalDate::ofEpochDay);
+            case LocalDateTime low -> temporal(micros(low.toInstant(ZoneOffset.UTC)), micros(((LocalDateTime) upper).toInstant(ZoneOffset.UTC)), parts,
+                    micros -> LocalDateTime.ofInstant(instant(micros), ZoneOffset.UTC));
+            case Instant low -> temporal(micros(low), micros((Instant) upper), parts, PartitionRanges::instant);
+            case OffsetDateTime low -> temporal(micros(low.toInstant()), micros(((OffsetDateTime) upper).toInstant()), parts,
+                    micros -> instant(micros).atOffset(low.getOffset()));
+            default -> throw new IllegalArgumentException("Unsupported partition column type: " + lower.getClass());
+        };
+    }
+
+    private static List<Object> numeric(Number lower, Number upper, int parts) {
+        if (lower instanceof Double || lower instanceof Float || upper instanceof Double || upper instanceof Float) {
+            double low = lower.doubleValue();
+            double step = (upper.doubleValue() - low) / parts;
+            List<Object> boundaries = new ArrayList<>(parts - 1);
+            double previous = low;
+            for (int i = 1; i < parts; i++) {
+                double boundary = low + step * i;
+                if (boundary > previous && boundary <= upper.doubleValue()) boundaries.add(boundary);
+                previous = boundary;
+            }
+            return boundaries;
+        }
+
+        BigDecimal low = decimal(lower);
+        BigDecimal high = decimal(upper);
+        boolean integral = !(lower instanceof BigDecimal) && !(upper instanceof BigDecimal);
+        BigDecimal range = high.subtract(low);
+        List<Object> boundaries = new ArrayList<>(parts - 1);
+        BigDecimal previous = low;
+        for (int i = 1; i < parts; i++) {
+            BigDecimal offset = range.multiply(BigDecimal.valueOf(i));
+            BigDecimal boundary = low.add(integral
+                    ? offset.divideToIntegralValue(BigDecimal.valueOf(parts))
+                    : offset.divide(BigDecimal.valueOf(parts), MathContext.DECIMAL64));
+            if (boundary.compareTo(previous) <= 0 || boundary.compareTo(high) > 0) continue;
+            boundaries.add(integral && boundary.toBigInteger().bitLength() < 64 ? boundary.longValue() : boundary);
+            previous = boundary;
+        }
+        return boundaries;
+    }
+
+    private static List<Object> temporal(long lower, long upper, int parts, LongFunction<Object> value) {
+        BigInteger low = BigInteger.valueOf(lower);
+        BigInteger range = BigInteger.valueOf(upper).subtract(low);
+        List<Object> boundaries = new ArrayList<>(parts - 1);
+        long previous = lower;
+        for (int i = 1; i < parts; i++) {
+            long boundary = low.add(range.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(parts))).longValueExact();
+            if (boundary <= previous || boundary > upper) continue;
+            boundaries.add(value.apply(boundary));
+            previous = boundary;
+        }
+        return boundaries;
+    }
+
+    private static BigDecimal decimal(Number number) {
+        return switch (number) {
+            case BigDecimal decimal -> decimal;
+            case BigInteger integer -> new BigDecimal(integer);
+            default -> BigDecimal.valueOf(number.longValue());
+        };
+    }
+
+    private static long micros(Timestamp timestamp) {
+        return Math.floorDiv(timestamp.getTime(), 1000L) * MICROS_PER_SECOND + timestamp.getNanos() / 1000;
+    }
+
+    private static long micros(Instant instant) {
+        return instant.getEpochSecond() * MICROS_PER_SECOND + instant.getNano() / 1000;
+    }
+
+    private static Instant instant(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND), Math.floorMod(micros, MICROS_PER_SECOND) * 1000L);
+    }
+
+    private static Timestamp timestamp(long micros) {
+        return Timestamp.from(instant(micros));
+    }
+}
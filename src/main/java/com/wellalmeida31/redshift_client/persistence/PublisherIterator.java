@@ -0,0 +1,106 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.wellalmeida31.redshift_client.exception.RedshiftException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+
+/**
+ * Adapta um {@link Flow.Publisher} para {@link Iterator} com buffer limitado.
+ *
+ * <p>A demanda solicitada ao publisher nunca passa de {@code buffer} itens não consumidos: metade
+ * do buffer é reposta a cada metade consumida. {@link #close()} cancela a assinatura.</p>
+ */
+final class PublisherIterator<T> implements Iterator<T>, Flow.Subscriber<T>, AutoCloseable {
+
+    private static final Object COMPLETE = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private final int buffer;
+    private final int replenish;
+    private volatile Flow.Subscription subscription;
+    private volatile boolean done;
+    private Object next;
+    private int consumed;
+
+    PublisherIterator(Flow.Publisher<? extends T> publisher, int buffer) {
+        this.buffer = buffer;
+        this.replenish = Math.max(1, buffer / 2);
+        this.queue = new ArrayBlockingQueue<>(buffer + 1);
+        publisher.subscribe(this);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(buffer);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!queue.offer(item)) {
+            subscription.cancel();
+            queue.clear();
+            onError(new IllegalStateException("Publisher sent more items than requested"));
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        done = true;
+        queue.offer(new Failure(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        queue.offer(COMPLETE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new RedshiftException("Interrupted while waiting for publisher rows", e);
+            }
+        }
+        if (next instanceof Failure failure) throw new RedshiftException("Publisher failed", failure.cause());
+        return next != COMPLETE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        T item = (T) next;
+        next = null;
+        if (++consumed == replenish) {
+            consumed = 0;
+            subscription.request(replenish);
+        }
+        return item;
+    }
+
+    @Override
+    public void close() {
+        Flow.Subscription s = subscription;
+        if (!done && s != null) {
+            done = true;
+            s.cancel();
+        }
+    }
+
+    private record Failure(Throwable cause) {
+    }
+}
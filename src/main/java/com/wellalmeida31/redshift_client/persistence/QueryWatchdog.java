@@ -0,0 +1,170 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cancela no servidor as instruções em execução quando o prazo do construtor termina, quando a thread que
+ * as executa é interrompida ou o future {@code *Async} é cancelado, ou quando o stream que as lê é fechado
+ * antes do fim. Assim o slot WLM e a conexão são liberados na hora.
+ *
+ * <p>Uma única thread verifica as instruções vigiadas a cada {@value #TICK_MILLIS} ms; o
+ * {@code setQueryTimeout} do driver fica como segunda garantia, arredondado para cima em segundos.</p>
+ */
+@Slf4j
+final class QueryWatchdog {
+
+    static final long TICK_MILLIS = 50;
+
+    private static final Set<Ticket> ACTIVE = ConcurrentHashMap.newKeySet();
+    private static final Set<Thread> CANCELLED_OWNERS = ConcurrentHashMap.newKeySet();
+    private static final LongAdder TIMED_OUT = new LongAdder();
+    private static final LongAdder INTERRUPTED = new LongAdder();
+    private static final LongAdder CLOSED = new LongAdder();
+    private static final LongAdder EXECUTION_NANOS = new LongAdder();
+    private static final LongAdder RECLAIMED_NANOS = new LongAdder();
+
+    private QueryWatchdog() {
+    }
+
+    enum Reason {TIMEOUT, INTERRUPTED, CLOSED}
+
+    /**
+     * Prazo absoluto ({@link System#nanoTime()}) de uma execução, ou 0 sem prazo.
+     */
+    static long deadline(Duration timeout) {
+        if (timeout == null || timeout.isZero()) return 0;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        return deadline == 0 ? 1 : deadline;
+    }
+
+    static Ticket watch(Statement statement, long deadline) throws SQLException {
+        if (CANCELLED_OWNERS.contains(Thread.currentThread())) throw new SQLException("Query cancelled", "57014");
+        if (deadline != 0) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) throw new SQLException("Query deadline exceeded before execution", "57014");
+            statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toSeconds(remaining + 999_999_999L)));
+        }
+        Ticket ticket = new Ticket(statement, deadline, Thread.currentThread());
+        ACTIVE.add(ticket);
+        Scanner.start();
+        return ticket;
+    }
+
+    /**
+     * Cancela as instruções da thread {@code owner} e as que ela ainda iniciar, até {@link #release(Thread)}.
+     * Usado no cancelamento de futures: interromper a thread fecharia o socket da conexão sem cancelar a
+     * consulta no servidor.
+     */
+    static void cancel(Thread owner) {
+        CANCELLED_OWNERS.add(owner);
+        for (Ticket ticket : ACTIVE) {
+            if (ticket.owner == owner && ticket.signalled.compareAndSet(false, true))
+                Thread.startVirtualThread(() -> ticket.cancel(Reason.INTERRUPTED));
+        }
+    }
+
+    static void release(Thread owner) {
+        CANCELLED_OWNERS.remove(owner);
+    }
+
+    static CancellationStats stats() {
+        return new CancellationStats(TIMED_OUT.sum() + INTERRUPTED.sum() + CLOSED.sum(),
+                TIMED_OUT.sum(), INTERRUPTED.sum(), CLOSED.sum(),
+                Duration.ofNanos(EXECUTION_NANOS.sum()), Duration.ofNanos(RECLAIMED_NANOS.sum()), ACTIVE.size());
+    }
+
+    private static void scan() {
+        long now = System.nanoTime();
+        for (Ticket ticket : ACTIVE) {
+            Reason reason = ticket.owner.isInterrupted() || CANCELLED_OWNERS.contains(ticket.owner) ? Reason.INTERRUPTED
+                    : ticket.deadline != 0 && now - ticket.deadline >= 0 ? Reason.TIMEOUT : null;
+            if (reason != null && ticket.signalled.compareAndSet(false, true))
+                Thread.startVirtualThread(() -> ticket.cancel(reason));
+        }
+    }
+
+    /**
+     * Vigilância de uma instrução; {@code close()} ao terminar a execução (ou a leitura do cursor).
+     */
+    static final class Ticket implements AutoCloseable {
+        private final Statement statement;
+        private final long deadline;
+        private final Thread owner;
+        private final long startedAt = System.nanoTime();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicBoolean signalled = new AtomicBoolean();
+        private boolean done;
+
+        private Ticket(Statement statement, long deadline, Thread owner) {
+            this.statement = statement;
+            this.deadline = deadline;
+            this.owner = owner;
+        }
+
+        /**
+         * Cancela a instrução, se ainda estiver vigiada; nunca depois do {@link #close()}, para não atingir a
+         * próxima instrução da conexão.
+         */
+        void cancel(Reason reason) {
+            lock.lock();
+            try {
+                if (done) return;
+                done = true;
+                ACTIVE.remove(this);
+                long now = System.nanoTime();
+                EXECUTION_NANOS.add(now - startedAt);
+                if (reason != Reason.TIMEOUT && deadline != 0 && deadline - now > 0) RECLAIMED_NANOS.add(deadline - now);
+                switch (reason) {
+                    case TIMEOUT -> TIMED_OUT.increment();
+                    case INTERRUPTED -> INTERRUPTED.increment();
+                    case CLOSED -> CLOSED.increment();
+                }
+                log.debug("Cancelling statement ({}) after {} ms", reason, TimeUnit.NANOSECONDS.toMillis(now - startedAt));
+                statement.cancel();
+            } catch (SQLException e) {
+                log.debug("Unable to cancel the statement", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                done = true;
+                ACTIVE.remove(this);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Scanner {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redshift-query-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            EXECUTOR.scheduleWithFixedDelay(QueryWatchdog::scan, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        static void start() {
+            // inicializa a classe na primeira instrução vigiada
+        }
+    }
+}
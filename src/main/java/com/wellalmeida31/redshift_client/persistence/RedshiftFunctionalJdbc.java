@@ -2,31 +2,73 @@ package com.wellalmeida31.redshift_client.persistence;
 
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wellalmeida31.redshift_client.exception.BatchExecutionException;
 import com.wellalmeida31.redshift_client.exception.NoStackTraceThrowable;
 import com.wellalmeida31.redshift_client.exception.RedshiftException;
 import com.wellalmeida31.redshift_client.tools.EpochMilliLocalDateTimeDeserializer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import javax.sql.DataSource;
+import java.io.IOException;
 import java.sql.*;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.wellalmeida31.redshift_client.tools.SafeTools.supplierElseSafe;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class RedshiftFunctionalJdbc {
+public class RedshiftFunctionalJdbc implements BeanFactoryAware, DisposableBean {
 
     private final DataSource dataSource;
+    private volatile WriteCoalescer writeCoalescer;
+    private volatile AsyncExecutor asyncExecutor;
+    private volatile Telemetry telemetry;
+    private volatile StatementProfiler statementProfiler;
+    private BeanFactory beanFactory;
+
+    @Value("${redshift.async.max-concurrency:5}")
+    private int asyncMaxConcurrency;
+
+    @Value("${redshift.query.timeout:0s}")
+    private Duration queryTimeout;
+
+    @Value("${redshift.profiler.enabled:false}")
+    private boolean profilerEnabled;
+
+    @Value("${redshift.profiler.window:5m}")
+    private Duration profilerWindow;
+
+    @Value("${redshift.profiler.slow-threshold:0s}")
+    private Duration profilerSlowThreshold;
+
+    @Value("${redshift.shutdown.timeout:30s}")
+    private Duration shutdownTimeout;
 
     private static final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule().addDeserializer(LocalDateTime.class, new EpochMilliLocalDateTimeDeserializer()))
@@ -34,17 +76,8 @@ public class RedshiftFunctionalJdbc {
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-    private static final Pattern SQL_DML_PATTERN = Pattern.compile("^(?i)(SELECT|INSERT|UPDATE|DELETE)\\s+.*", Pattern.DOTALL);
-    private static final String[] UNSUPPORTED_PATTERNS = {
-            "\\bMERGE\\b",
-            "\\bUSING\\b.*\\bON\\b",
-            "\\bON\\b\\s+CONFLICT",
-            "\\bRETURNING\\b",
-            "\\bARRAY\\b",
-            "\\bGEOMETRY\\b",
-            "\\bVACUUM\\b.*\\bDELETE\\b"
-    };
-    private static final Pattern SQL_UPDATE_MV_PATTERN = Pattern.compile("^(?i)(REFRESH|DROP|CREATE)\\s+.*", Pattern.DOTALL);
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*");
+    private static final Pattern TABLE = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*){0,2}");
 
     private static final Set<Integer> ALLOWED_ISOLATION_LEVELS = Set.of(
             Connection.TRANSACTION_NONE,
@@ -55,45 +88,198 @@ public class RedshiftFunctionalJdbc {
     );
 
     public JdbcUpdate jdbcUpdate(){
-        return new JdbcUpdate(dataSource);
+        JdbcUpdate jdbcUpdate = new JdbcUpdate(dataSource, this::writeCoalescer).queryTimeout(queryTimeout);
+        jdbcUpdate.asyncExecutor = this::asyncExecutor;
+        jdbcUpdate.telemetry = telemetry();
+        return jdbcUpdate;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    /**
+     * No encerramento do contexto, aguarda as tarefas do {@link #asyncExecutor()} e depois envia as escritas do
+     * {@link #writeCoalescer()}, cada um por até {@code redshift.shutdown.timeout} (padrão 30s); o que não
+     * terminar no prazo falha em vez de ser descartado.
+     */
+    @Override
+    public void destroy() {
+        Duration timeout = shutdownTimeout != null ? shutdownTimeout : Duration.ofSeconds(AsyncExecutor.CLOSE_TIMEOUT_SECONDS);
+        AsyncExecutor executor;
+        WriteCoalescer coalescer;
+        synchronized (this) {
+            executor = asyncExecutor;
+            coalescer = writeCoalescer;
+        }
+        if (executor != null) executor.close(timeout);
+        if (coalescer != null) coalescer.close(timeout);
+    }
+
+    /**
+     * Métricas dos builders, ativas quando há um {@code MeterRegistry} no contexto; resolvido na primeira chamada.
+     */
+    Telemetry telemetry(){
+        Telemetry current = telemetry;
+        if (current == null) {
+            synchronized (this) {
+                if (telemetry == null) telemetry = Telemetry.create(beanFactory, profilerEnabled ? statementProfiler() : null);
+                current = telemetry;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Executor das variantes {@code *Async}, com até {@code redshift.async.max-concurrency} (padrão 5)
+     * instruções simultâneas; ajuste ao número de slots da fila WLM.
+     */
+    public AsyncExecutor asyncExecutor(){
+        AsyncExecutor executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null)
+                    asyncExecutor = new AsyncExecutor(asyncMaxConcurrency > 0 ? asyncMaxConcurrency : AsyncExecutor.DEFAULT_MAX_CONCURRENCY);
+                executor = asyncExecutor;
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Coalescer padrão usado por {@code JdbcUpdate.executeCoalesced()}, criado na primeira chamada.
+     */
+    public WriteCoalescer writeCoalescer(){
+        WriteCoalescer coalescer = writeCoalescer;
+        if (coalescer == null) {
+            synchronized (this) {
+                if (writeCoalescer == null) writeCoalescer = new WriteCoalescer(dataSource);
+                coalescer = writeCoalescer;
+            }
+        }
+        return coalescer;
     }
 
     public JdbcBatchUpdate jdbcBatchUpdate(){
-        return new JdbcBatchUpdate(dataSource);
+        JdbcBatchUpdate jdbcBatchUpdate = new JdbcBatchUpdate(dataSource).queryTimeout(queryTimeout);
+        jdbcBatchUpdate.telemetry = telemetry();
+        return jdbcBatchUpdate;
+    }
+
+    public JdbcBulkLoad jdbcBulkLoad(){
+        return new JdbcBulkLoad(dataSource).queryTimeout(queryTimeout);
+    }
+
+    public JdbcUpsert jdbcUpsert(){
+        return new JdbcUpsert(dataSource).queryTimeout(queryTimeout);
     }
 
     public JdbcQuery jdbcQuery(){
-        return new JdbcQuery(dataSource);
+        JdbcQuery jdbcQuery = new JdbcQuery(dataSource).queryTimeout(queryTimeout);
+        jdbcQuery.asyncExecutor = this::asyncExecutor;
+        jdbcQuery.telemetry = telemetry();
+        return jdbcQuery;
     }
 
     public JdbcQueryPage jdbcQueryPage(){
-        return new JdbcQueryPage(dataSource);
+        JdbcQueryPage jdbcQueryPage = new JdbcQueryPage(dataSource).queryTimeout(queryTimeout);
+        jdbcQueryPage.asyncExecutor = this::asyncExecutor;
+        jdbcQueryPage.telemetry = telemetry();
+        return jdbcQueryPage;
     }
 
     public JdbcUpdateMv jdbcUpdateMv(){
-        return new JdbcUpdateMv(dataSource);
+        JdbcUpdateMv jdbcUpdateMv = new JdbcUpdateMv(dataSource).queryTimeout(queryTimeout);
+        jdbcUpdateMv.telemetry = telemetry();
+        return jdbcUpdateMv;
+    }
+
+    /**
+     * Perfil das instruções por fingerprint (top N por tempo total e p99), alimentado quando
+     * {@code redshift.profiler.enabled=true}; execuções acima de {@code redshift.profiler.slow-threshold} vão para o log.
+     */
+    public StatementProfiler statementProfiler(){
+        StatementProfiler profiler = statementProfiler;
+        if (profiler == null) {
+            synchronized (this) {
+                if (statementProfiler == null)
+                    statementProfiler = new StatementProfiler(profilerWindow != null ? profilerWindow : Duration.ofMinutes(5), profilerSlowThreshold);
+                profiler = statementProfiler;
+            }
+        }
+        return profiler;
+    }
+
+    /**
+     * Instruções canceladas no servidor (prazo, interrupção, stream fechado) e o tempo de slot liberado.
+     */
+    public CancellationStats cancellationStats(){
+        return QueryWatchdog.stats();
+    }
+
+    /**
+     * Executa {@code work} em uma única conexão, com auto-commit como configurado no pool; SQL repetido
+     * reaproveita o {@link PreparedStatement}.
+     */
+    public void inSession(SQLConsumer<JdbcSession> work){
+        callInSession(session -> {
+            work.accept(session);
+            return null;
+        });
+    }
+
+    public <R> R callInSession(SQLFunction<JdbcSession, R> work){
+        return JdbcSession.run(dataSource, false, queryTimeout, telemetry(), work);
+    }
+
+    /**
+     * Como {@link #inSession}, em uma única transação: um commit no final, rollback em qualquer exceção.
+     */
+    public void inTransaction(SQLConsumer<JdbcSession> work){
+        callInTransaction(session -> {
+            work.accept(session);
+            return null;
+        });
+    }
+
+    public <R> R callInTransaction(SQLFunction<JdbcSession, R> work){
+        return JdbcSession.run(dataSource, true, queryTimeout, telemetry(), work);
     }
 
+    @Slf4j
     public static class JdbcQuery {
         private final DataSource dataSource;
+        private Duration queryTimeout;
         private String query;
         private SQLConsumer<PreparedStatement> parameterSetter;
-
-        private static final Pattern DQL_PATTERN = Pattern.compile("^(?i)SELECT\\s+.+\\s+FROM\\s+.+", Pattern.DOTALL);
-        private static final String[] UNSUPPORTED_PATTERNS = {
-                "\\bWITH\\b.*\\bRECURSIVE\\b",
-                "\\bFULL OUTER JOIN\\b.*\\bON\\b",
-                "\\bFETCH FIRST\\b.*\\bROWS ONLY\\b",
-                "\\bOFFSET\\b.*\\bROWS\\b",
-                "\\bWINDOW\\b",
-                "\\bLATERAL\\b",
-                "\\bQUALIFY\\b"
-        };
+        private int fetchSize = 1000;
+        private Supplier<AsyncExecutor> asyncExecutor = AsyncExecutor::shared;
+        private String partitionColumn;
+        private int partitions;
+        private Object partitionLowerBound;
+        private Object partitionUpperBound;
+        private boolean preserveOrder;
+        private Telemetry telemetry = Telemetry.DISABLED;
 
         public JdbcQuery(DataSource dataSource) {
             this.dataSource = dataSource;
         }
 
+        /**
+         * Prazo da consulta (para {@link #stream} e {@link #publish}, da leitura inteira): ao terminar, a instrução
+         * é cancelada no servidor, liberando o slot WLM e a conexão. {@code null} ou zero desativa.
+         */
+        public JdbcQuery queryTimeout(Duration queryTimeout) {
+            this.queryTimeout = validateTimeout(queryTimeout);
+            return this;
+        }
+
+        JdbcQuery telemetry(Telemetry telemetry) {
+            this.telemetry = telemetry;
+            return this;
+        }
+
         public JdbcQuery query(String query) {
             this.validationQuery(query);
             this.query = query;
@@ -110,23 +296,132 @@ public class RedshiftFunctionalJdbc {
             return this;
         }
 
+        public JdbcQuery asyncExecutor(AsyncExecutor asyncExecutor) {
+            Objects.requireNonNull(asyncExecutor, "asyncExecutor is null");
+            this.asyncExecutor = () -> asyncExecutor;
+            return this;
+        }
+
+        public JdbcQuery fetchSize(int fetchSize) {
+            if (fetchSize <= 0) throw new IllegalArgumentException("Fetch size must be greater than 0.");
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Divide a consulta em até {@code parallelism} faixas da coluna (numérica ou de data/hora), executadas
+         * ao mesmo tempo em conexões separadas e unidas em um único stream; o mapeamento também roda em paralelo.
+         * Os limites vêm de {@code MIN/MAX} da coluna na consulta, que precisa estar no SELECT e não pode ter
+         * ORDER BY. Vale para {@code stream}, {@code forEach} e {@code executeQuery}.
+         */
+        public JdbcQuery partitionBy(String column, int parallelism) {
+            if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be greater than 0.");
+            this.partitionColumn = validateColumns(column).getFirst();
+            this.partitions = parallelism;
+            this.partitionLowerBound = null;
+            this.partitionUpperBound = null;
+            return this;
+        }
+
+        /**
+         * Como {@link #partitionBy(String, int)}, com limites conhecidos (sem a consulta de MIN/MAX). Linhas fora
+         * dos limites continuam sendo lidas, pela primeira e pela última faixa.
+         */
+        public JdbcQuery partitionBy(String column, int parallelism, Object lowerBound, Object upperBound) {
+            partitionBy(column, parallelism);
+            PartitionRanges.boundaries(lowerBound, upperBound, parallelism);
+            this.partitionLowerBound = lowerBound;
+            this.partitionUpperBound = upperBound;
+            return this;
+        }
+
+        /**
+         * Com {@link #partitionBy}, entrega as linhas em ordem crescente da coluna de partição (nulos primeiro):
+         * cada faixa é ordenada no servidor e as faixas são entregues em sequência, ainda buscadas em paralelo.
+         */
+        public JdbcQuery preserveOrder(boolean preserveOrder) {
+            this.preserveOrder = preserveOrder;
+            return this;
+        }
+
+        /**
+         * Abre um cursor no servidor e devolve as linhas sob demanda, {@code fetchSize} por vez.
+         * A conexão fica presa ao stream: feche-o (try-with-resources) ou consuma-o por completo.
+         */
+        public <T> Stream<T> stream(SQLFunction<ResultSet, T> mapper) {
+            Objects.requireNonNull(mapper, "mapper is null");
+            if (partitionColumn != null) return partitionedStream(mapper);
+            return new ResultSetCursor<>(dataSource, query, parameterSetter, fetchSize, mapper, QueryWatchdog.deadline(queryTimeout),
+                    telemetry.start("JdbcQuery", query), false).stream();
+        }
+
+        public <T> Stream<T> stream(Class<T> clazz) {
+            return stream(rowMapper(clazz));
+        }
+
+        /**
+         * Publisher reativo ({@link Flow.Publisher}) sobre um cursor: as linhas só são lidas conforme a demanda
+         * do assinante e o cancelamento da assinatura cancela a instrução e libera a conexão. Cada assinatura
+         * executa a consulta; adapte com {@code JdkFlowAdapter.flowPublisherToFlux(...)} no Reactor.
+         */
+        public <T> Flow.Publisher<T> publish(SQLFunction<ResultSet, T> mapper) {
+            Objects.requireNonNull(mapper, "mapper is null");
+            JdbcSession.rejectInSession(dataSource, "publish");
+            String sql = query;
+            SQLConsumer<PreparedStatement> parameters = parameterSetter;
+            int size = fetchSize;
+            Duration timeout = queryTimeout;
+            Telemetry metrics = telemetry;
+            return new CursorPublisher<>(() -> new ResultSetCursor<>(dataSource, sql, parameters, size, mapper, QueryWatchdog.deadline(timeout),
+                    metrics.start("JdbcQuery", sql), false));
+        }
+
+        public <T> Flow.Publisher<T> publish(Class<T> clazz) {
+            Objects.requireNonNull(clazz, "clazz is null");
+            JdbcSession.rejectInSession(dataSource, "publish");
+            String sql = query;
+            SQLConsumer<PreparedStatement> parameters = parameterSetter;
+            int size = fetchSize;
+            Duration timeout = queryTimeout;
+            Telemetry metrics = telemetry;
+            return new CursorPublisher<>(() -> new ResultSetCursor<>(dataSource, sql, parameters, size, rowMapper(clazz), QueryWatchdog.deadline(timeout),
+                    metrics.start("JdbcQuery", sql), false));
+        }
+
+        public <T> void forEach(SQLFunction<ResultSet, T> mapper, Consumer<? super T> action) {
+            Objects.requireNonNull(action, "action is null");
+            try (Stream<T> rows = stream(mapper)) {
+                rows.forEach(action);
+            }
+        }
+
+        public <T> void forEach(Class<T> clazz, Consumer<? super T> action) {
+            Objects.requireNonNull(action, "action is null");
+            try (Stream<T> rows = stream(clazz)) {
+                rows.forEach(action);
+            }
+        }
+
         public <T> List<T> executeQuery(SQLFunction<ResultSet, T> mapper) {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(query)) {
+            if (partitionColumn != null) return collect(partitionedStream(mapper));
+            try (Telemetry.Execution execution = telemetry.start("JdbcQuery", query);
+                 Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, query);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
 
                 if(parameterSetter != null) parameterSetter.accept(ps);
 
-                try (ResultSet rs = ps.executeQuery()) {
-                    return Stream.generate(() -> {
+                try (ResultSet rs = execution.executeQuery(ps)) {
+                    return execution.completed(Stream.generate(() -> {
                                 try {
-                                    if (rs.next()) return supplierElseSafe(()-> mapper.apply(rs), null);
+                                    if (execution.next(rs)) return supplierElseSafe(()-> execution.map(mapper, rs), null);
                                     else return null;
                                 } catch (SQLException e) {
                                     throw new RedshiftException(e);
                                 }
                             })
                             .takeWhile(Objects::nonNull)
-                            .toList();
+                            .toList());
                 }
 
             } catch (SQLException e) {
@@ -135,27 +430,19 @@ public class RedshiftFunctionalJdbc {
         }
 
         public <T> List<T> executeQuery(Class<T> clazz) {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(query)) {
+            if (partitionColumn != null) return collect(partitionedStream(rowMapper(clazz)));
+            try (Telemetry.Execution execution = telemetry.start("JdbcQuery", query);
+                 Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, query);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
 
                 if(parameterSetter != null) parameterSetter.accept(ps);
 
-                try (ResultSet rs = ps.executeQuery()) {
-
-                    return Stream.generate(() -> {
-                                try {
-                                    if (rs.next()) {
-                                        Map<String, Object> map = resultSetToMap(rs);
-                                        return supplierElseSafe(()-> objectMapper.convertValue(map, clazz), null);
-                                    }
-                                    else return null;
-
-                                } catch (SQLException e) {
-                                    throw new RedshiftException(e);
-                                }
-                            })
-                            .takeWhile(Objects::nonNull)
-                            .toList();
+                try (ResultSet rs = execution.executeQuery(ps)) {
+                    SQLFunction<ResultSet, T> mapper = rowMapper(clazz);
+                    List<T> elements = new ArrayList<>();
+                    while (execution.next(rs)) elements.add(execution.map(mapper, rs));
+                    return execution.completed(elements);
                 }
 
             } catch (SQLException e) {
@@ -164,14 +451,16 @@ public class RedshiftFunctionalJdbc {
         }
 
         public <T> Optional<T> fetchOne(SQLFunction<ResultSet, T> mapper) {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(query)) {
+            try (Telemetry.Execution execution = telemetry.start("JdbcQuery", query);
+                 Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, query);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
 
                 if(parameterSetter != null) parameterSetter.accept(ps);
 
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) return Optional.of(mapper.apply(rs));
-                    return Optional.empty();
+                try (ResultSet rs = execution.executeQuery(ps)) {
+                    if (execution.next(rs)) return execution.completed(Optional.of(execution.map(mapper, rs)));
+                    return execution.completed(Optional.empty());
                 }
 
             } catch (SQLException e) {
@@ -179,18 +468,40 @@ public class RedshiftFunctionalJdbc {
             }
         }
 
+        /**
+         * {@link #executeQuery(SQLFunction)} em uma virtual thread do {@link AsyncExecutor}, aguardando um slot livre.
+         */
+        public <T> CompletableFuture<List<T>> executeQueryAsync(SQLFunction<ResultSet, T> mapper) {
+            JdbcSession.rejectInSession(dataSource, "executeQueryAsync");
+            return asyncExecutor.get().submit(() -> executeQuery(mapper));
+        }
+
+        public <T> CompletableFuture<List<T>> executeQueryAsync(Class<T> clazz) {
+            JdbcSession.rejectInSession(dataSource, "executeQueryAsync");
+            return asyncExecutor.get().submit(() -> executeQuery(clazz));
+        }
+
+        public <T> CompletableFuture<Optional<T>> fetchOneAsync(SQLFunction<ResultSet, T> mapper) {
+            JdbcSession.rejectInSession(dataSource, "fetchOneAsync");
+            return asyncExecutor.get().submit(() -> fetchOne(mapper));
+        }
+
+        public <T> CompletableFuture<Optional<T>> fetchOneAsync(Class<T> clazz) {
+            JdbcSession.rejectInSession(dataSource, "fetchOneAsync");
+            return asyncExecutor.get().submit(() -> fetchOne(clazz));
+        }
+
         public <T> Optional<T> fetchOne(Class<T> clazz) {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(query)) {
+            try (Telemetry.Execution execution = telemetry.start("JdbcQuery", query);
+                 Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, query);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
 
                 if(parameterSetter != null) parameterSetter.accept(ps);
 
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        Map<String, Object> map = resultSetToMap(rs);
-                        return Optional.of(supplierElseSafe(()-> objectMapper.convertValue(map, clazz), null));
-                    }
-                    return Optional.empty();
+                try (ResultSet rs = execution.executeQuery(ps)) {
+                    if (execution.next(rs)) return execution.completed(Optional.of(execution.map(rowMapper(clazz), rs)));
+                    return execution.completed(Optional.empty());
                 }
 
             } catch (SQLException e) {
@@ -198,23 +509,100 @@ public class RedshiftFunctionalJdbc {
             }
         }
 
-        private void validationQuery(String query) {
-            if(!isValidDQL(query) || !isUnsupportedDqlRedshift(query)) {
-                throw new RedshiftException(query + " is not valid");
+        private <T> Stream<T> partitionedStream(SQLFunction<ResultSet, T> mapper) {
+            if (partitions > 1 && JdbcSession.isSession(dataSource))
+                throw new IllegalArgumentException("partitionBy cannot be used inside a session.");
+
+            Telemetry.Execution execution = telemetry.start("JdbcQuery", query);
+            try {
+                return partitionedStream(mapper, execution);
+            } catch (RuntimeException | Error e) {
+                execution.close();
+                throw e;
             }
         }
 
-        private boolean isValidDQL(String sql) {
-            if (sql == null || sql.trim().isEmpty()) return false;
-            String trimmedSql = sql.trim();
-            return DQL_PATTERN.matcher(trimmedSql).matches();
+        private <T> Stream<T> partitionedStream(SQLFunction<ResultSet, T> mapper, Telemetry.Execution execution) {
+            long deadline = QueryWatchdog.deadline(queryTimeout);
+            String source = query.strip();
+            while (source.endsWith(";")) source = source.substring(0, source.length() - 1).strip();
+
+            List<Object> boundaries;
+            if (partitionLowerBound != null) {
+                boundaries = PartitionRanges.boundaries(partitionLowerBound, partitionUpperBound, partitions);
+            } else {
+                Object[] bounds = partitionBounds(source, execution);
+                if (bounds == null) {
+                    execution.completed();
+                    execution.close();
+                    return Stream.empty();
+                }
+                boundaries = PartitionRanges.boundaries(bounds[0], bounds[1], partitions);
+            }
+
+            String column = partitionColumn;
+            String orderBy = preserveOrder ? " ORDER BY " + column + " NULLS FIRST" : "";
+            List<PartitionedQuery.Part> parts = new ArrayList<>(boundaries.size() + 1);
+            for (int i = 0; i <= boundaries.size(); i++) {
+                String predicate;
+                Object[] values;
+                if (boundaries.isEmpty()) {
+                    predicate = "TRUE";
+                    values = new Object[0];
+                } else if (i == 0) {
+                    predicate = column + " < ? OR " + column + " IS NULL";
+                    values = new Object[]{boundaries.getFirst()};
+                } else if (i == boundaries.size()) {
+                    predicate = column + " >= ?";
+                    values = new Object[]{boundaries.getLast()};
+                } else {
+                    predicate = column + " >= ? AND " + column + " < ?";
+                    values = new Object[]{boundaries.get(i - 1), boundaries.get(i)};
+                }
+                String sql = "SELECT * FROM (" + source + ") partitioned_query WHERE " + predicate + orderBy;
+                parts.add(new PartitionedQuery.Part(sql, partitionParameters(values)));
+            }
+            log.debug("Partitioned query on {} in {} parts", column, parts.size());
+            return new PartitionedQuery<>(dataSource, parts, fetchSize, mapper, preserveOrder, deadline, execution).stream();
         }
 
-        private boolean isUnsupportedDqlRedshift(String sql) {
-            for (String pattern : UNSUPPORTED_PATTERNS) {
-                if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(sql).find()) return false;
+        private Object[] partitionBounds(String source, Telemetry.Execution execution) {
+            String boundsQuery = "SELECT MIN(" + partitionColumn + "), MAX(" + partitionColumn + ") FROM (" + source + ") partition_bounds";
+            try (Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, boundsQuery);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
+
+                if(parameterSetter != null) parameterSetter.accept(ps);
+
+                try (ResultSet rs = execution.executeQuery(ps)) {
+                    if (!rs.next() || rs.getObject(1) == null) return null;
+                    return new Object[]{rs.getObject(1), rs.getObject(2)};
+                }
+            } catch (SQLException e) {
+                throw new RedshiftException(e);
+            }
+        }
+
+        private SQLConsumer<PreparedStatement> partitionParameters(Object[] values) {
+            SQLConsumer<PreparedStatement> parameters = parameterSetter;
+            int offset = SqlValidator.parameterCount(query);
+            return ps -> {
+                if (parameters != null) parameters.accept(ps);
+                int index = offset;
+                for (Object value : values) ps.setObject(++index, value);
+            };
+        }
+
+        private static <T> List<T> collect(Stream<T> rows) {
+            try (rows) {
+                return rows.toList();
+            }
+        }
+
+        private void validationQuery(String query) {
+            if(!SqlValidator.isValidQuery(query)) {
+                throw new RedshiftException(query + " is not valid");
             }
-            return true;
         }
 
     }
@@ -222,27 +610,35 @@ public class RedshiftFunctionalJdbc {
     @Slf4j
     public static class JdbcQueryPage {
         private final DataSource dataSource;
+        private Duration queryTimeout;
         private String query;
         private SQLConsumer<PreparedStatement> parameterSetter;
         private int pageSize = 10;
         private int pageIndex = 0;
         private Sort sort;
+        private String continuationToken;
+        private List<Object> parameterValues = List.of();
+        private Duration countCacheTtl;
+        private boolean concurrentCount;
+        private Supplier<AsyncExecutor> asyncExecutor = AsyncExecutor::shared;
+        private Telemetry telemetry = Telemetry.DISABLED;
 
-        private static final Pattern DQL_PATTERN = Pattern.compile("^(?i)SELECT\\s+.+\\s+FROM\\s+.+", Pattern.DOTALL);
-        private static final String[] UNSUPPORTED_PATTERNS = {
-                "\\bWITH\\b.*\\bRECURSIVE\\b",
-                "\\bFULL OUTER JOIN\\b.*\\bON\\b",
-                "\\bFETCH FIRST\\b.*\\bROWS ONLY\\b",
-                "\\bOFFSET\\b.*\\bROWS\\b",
-                "\\bWINDOW\\b",
-                "\\bLATERAL\\b",
-                "\\bQUALIFY\\b"
-        };
+        private static final int MAX_CACHED_TOTALS = 10_000;
+        private static final Map<CountKey, CachedTotal> TOTALS = new ConcurrentHashMap<>();
+        private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
         public JdbcQueryPage(DataSource dataSource) {
             this.dataSource = dataSource;
         }
 
+        /**
+         * Prazo de cada consulta da página (busca e COUNT); ao terminar, a instrução é cancelada no servidor.
+         */
+        public JdbcQueryPage queryTimeout(Duration queryTimeout) {
+            this.queryTimeout = validateTimeout(queryTimeout);
+            return this;
+        }
+
         public JdbcQueryPage query(String query) {
             this.validationQuery(query);
             this.query = query;
@@ -251,217 +647,1450 @@ public class RedshiftFunctionalJdbc {
 
         public JdbcQueryPage parameters(SQLConsumer<PreparedStatement> parameterSetter) {
             this.parameterSetter = parameterSetter;
+            this.parameterValues = null;
             return this;
         }
 
         public JdbcQueryPage parameters(List<Object> attributes) {
             this.parameterSetter = readParameters(attributes);
+            this.parameterValues = Collections.unmodifiableList(new ArrayList<>(attributes));
+            return this;
+        }
+
+        public JdbcQueryPage pageSize(int pageSize) {
+            if (pageSize <= 0) throw new IllegalArgumentException("Page size must be greater than 0.");
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public JdbcQueryPage pageIndex(int pageIndex) {
+            if (pageIndex < 0) throw new IllegalArgumentException("Page index cannot be negative.");
+            this.pageIndex = pageIndex;
+            return this;
+        }
+
+        public JdbcQueryPage sort(Sort sort){
+            this.sort = sort;
+            return this;
+        }
+
+        /**
+         * Mantém o total de elementos em cache pelo tempo informado, por consulta normalizada e parâmetros.
+         * Só tem efeito com {@link #parameters(List)} (ou sem parâmetros), pois os valores de um
+         * {@link SQLConsumer} não são conhecidos.
+         */
+        public JdbcQueryPage countCacheTtl(Duration countCacheTtl) {
+            if (countCacheTtl != null && (countCacheTtl.isNegative() || countCacheTtl.isZero()))
+                throw new IllegalArgumentException("Count cache TTL must be positive.");
+            this.countCacheTtl = countCacheTtl;
+            return this;
+        }
+
+        public JdbcQueryPage asyncExecutor(AsyncExecutor asyncExecutor) {
+            Objects.requireNonNull(asyncExecutor, "asyncExecutor is null");
+            this.asyncExecutor = () -> asyncExecutor;
+            return this;
+        }
+
+        /**
+         * Executa o COUNT(*) no {@link AsyncExecutor}, em paralelo com a busca da página e dentro do mesmo limite
+         * de slots. Se nenhum slot liberar até a página terminar, o COUNT(*) sai da fila e roda na própria thread;
+         * se a busca da página falhar, o COUNT(*) em execução é cancelado no servidor.
+         */
+        public JdbcQueryPage concurrentCount(boolean concurrentCount) {
+            this.concurrentCount = concurrentCount;
+            return this;
+        }
+
+        public JdbcQueryPage continuationToken(String continuationToken) {
+            this.continuationToken = continuationToken;
+            return this;
+        }
+
+        /**
+         * Paginação por keyset (seek): as colunas do {@link Sort} devem formar uma chave única e estar
+         * presentes no SELECT. Em vez de {@code OFFSET}, a próxima página é buscada a partir dos valores
+         * da última linha (token de continuação), então a página N custa o mesmo que a primeira.
+         */
+        public <T> KeysetPage<T> executeKeysetQuery(SQLFunction<ResultSet, T> mapper) {
+            if (sort == null || sort.isUnsorted())
+                throw new RedshiftException("Keyset pagination requires a sort on unique key columns");
+
+            List<Sort.Order> keys = new ArrayList<>();
+            sort.forEach(keys::add);
+            List<String> columns = keys.stream().map(order -> unqualified(order.getProperty())).toList();
+            Object[] after = continuationToken == null ? null : KeysetToken.decode(continuationToken, columns);
+            String keysetQuery = buildKeysetQuery(keys, columns, after != null);
+
+            try (Telemetry.Execution execution = telemetry.start("JdbcQueryPage", keysetQuery);
+                 Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, keysetQuery);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
+
+                if(parameterSetter != null) parameterSetter.accept(ps);
+                int index = parameterValues != null ? parameterValues.size() : SqlValidator.parameterCount(query);
+                if (after != null) {
+                    for (int i = 0; i < after.length; i++) {
+                        for (int j = 0; j < i; j++) ps.setObject(++index, after[j]);
+                        ps.setObject(++index, after[i]);
+                    }
+                }
+                ps.setInt(++index, pageSize + 1);
+
+                try (ResultSet rs = execution.executeQuery(ps)) {
+                    int[] keyIndexes = new int[columns.size()];
+                    for (int i = 0; i < keyIndexes.length; i++) keyIndexes[i] = rs.findColumn(columns.get(i));
+
+                    List<T> elements = new ArrayList<>();
+                    Object[] last = null;
+                    boolean hasNext = false;
+                    while (execution.next(rs)) {
+                        if (elements.size() == pageSize) {
+                            hasNext = true;
+                            break;
+                        }
+                        elements.add(execution.map(mapper, rs));
+                        last = new Object[keyIndexes.length];
+                        for (int i = 0; i < keyIndexes.length; i++) {
+                            last[i] = rs.getObject(keyIndexes[i]);
+                            if (last[i] == null) throw new RedshiftException("Keyset column " + columns.get(i) + " returned null");
+                        }
+                    }
+                    return execution.completed(new KeysetPage<>(elements, hasNext ? KeysetToken.encode(columns, last) : null));
+                }
+            } catch (SQLException e) {
+                throw new RedshiftException(e);
+            }
+        }
+
+        public <T> KeysetPage<T> executeKeysetQuery(Class<T> clazz) {
+            return executeKeysetQuery(rowMapper(clazz));
+        }
+
+        public <T> Page<T> executePagedQuery(SQLFunction<ResultSet, T> mapper) {
+            String orderByClause = buildOrderByClause(sort);
+            String paginatedQuery = query + orderByClause + " LIMIT ? OFFSET ?";
+            CountKey key = countCacheTtl != null && parameterValues != null
+                    ? new CountKey(WHITESPACE.matcher(query.strip()).replaceAll(" "), parameterValues)
+                    : null;
+            CachedTotal cached = key != null ? TOTALS.get(key) : null;
+            long countedAt = System.nanoTime();
+            CompletableFuture<Long> totalElements;
+            if (cached != null && cached.expiresAt() > countedAt) totalElements = CompletableFuture.completedFuture(cached.total());
+            else {
+                cached = null;
+                totalElements = concurrentCount && !JdbcSession.isSession(dataSource)
+                        ? asyncExecutor.get().submit(this::countTotalElements)
+                        : CompletableFuture.completedFuture(countTotalElements());
+            }
+
+            List<T> elements;
+            try {
+                elements = fetchPage(paginatedQuery, pageSize, mapper);
+            } catch (RuntimeException e) {
+                totalElements.cancel(true);
+                throw e;
+            }
+            long total = join(totalElements);
+            if (key != null && cached == null) cacheTotal(key, new CachedTotal(total, countedAt + countCacheTtl.toNanos()));
+            return new PageImpl<>(
+                    elements,
+                    PageRequest.of(pageIndex, pageSize),
+                    total
+            );
+        }
+
+        public <T> Page<T> executePagedQuery(Class<T> clazz) {
+            return executePagedQuery(rowMapper(clazz));
+        }
+
+        /**
+         * {@link #executePagedQuery(SQLFunction)} em uma virtual thread do {@link AsyncExecutor}, aguardando um slot livre.
+         */
+        public <T> CompletableFuture<Page<T>> executePagedQueryAsync(SQLFunction<ResultSet, T> mapper) {
+            JdbcSession.rejectInSession(dataSource, "executePagedQueryAsync");
+            return asyncExecutor.get().submit(() -> executePagedQuery(mapper));
+        }
+
+        public <T> CompletableFuture<Page<T>> executePagedQueryAsync(Class<T> clazz) {
+            JdbcSession.rejectInSession(dataSource, "executePagedQueryAsync");
+            return asyncExecutor.get().submit(() -> executePagedQuery(clazz));
+        }
+
+        /**
+         * Busca {@code pageSize + 1} linhas para saber se existe próxima página, sem executar o COUNT(*).
+         */
+        public <T> Slice<T> executeSlicedQuery(SQLFunction<ResultSet, T> mapper) {
+            String orderByClause = buildOrderByClause(sort);
+            String paginatedQuery = query + orderByClause + " LIMIT ? OFFSET ?";
+            List<T> elements = fetchPage(paginatedQuery, pageSize + 1, mapper);
+            boolean hasNext = elements.size() > pageSize;
+            return new SliceImpl<>(
+                    hasNext ? elements.subList(0, pageSize) : elements,
+                    PageRequest.of(pageIndex, pageSize),
+                    hasNext
+            );
+        }
+
+        public <T> Slice<T> executeSlicedQuery(Class<T> clazz) {
+            return executeSlicedQuery(rowMapper(clazz));
+        }
+
+        private <T> List<T> fetchPage(String paginatedQuery, int limit, SQLFunction<ResultSet, T> mapper) {
+            try (Telemetry.Execution execution = telemetry.start("JdbcQueryPage", paginatedQuery);
+                 Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, paginatedQuery);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
+
+                if(parameterSetter != null) parameterSetter.accept(ps);
+                ps.setInt(ps.getParameterMetaData().getParameterCount() - 1, limit);
+                ps.setInt(ps.getParameterMetaData().getParameterCount(), pageIndex * pageSize);
+
+                try (ResultSet rs = execution.executeQuery(ps)) {
+                    List<T> elements = new ArrayList<>();
+                    while (execution.next(rs)) {
+                        elements.add(execution.map(mapper, rs));
+                    }
+                    return execution.completed(elements);
+                }
+            } catch (SQLException e) {
+                throw new RedshiftException(e);
+            }
+        }
+
+        private static void cacheTotal(CountKey key, CachedTotal total) {
+            if (TOTALS.size() >= MAX_CACHED_TOTALS) {
+                long now = System.nanoTime();
+                TOTALS.values().removeIf(cached -> cached.expiresAt() <= now);
+                if (TOTALS.size() >= MAX_CACHED_TOTALS) return;
+            }
+            TOTALS.put(key, total);
+        }
+
+        /**
+         * Aguarda o COUNT(*); se ele ainda espera um slot do {@link AsyncExecutor}, roda aqui, sem ocupar um
+         * segundo slot (e sem travar quando a própria página já ocupa o último).
+         */
+        private long join(CompletableFuture<Long> totalElements) {
+            if (totalElements instanceof AsyncExecutor.Submission<Long> pending && pending.withdraw())
+                return countTotalElements();
+            try {
+                return totalElements.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw new RedshiftException(e.getCause());
+            }
+        }
+
+        private long countTotalElements() {
+            String countQuery = "SELECT COUNT(*) FROM (" + query + ") AS count_query";
+            try (Telemetry.Execution execution = telemetry.start("JdbcQueryPage", countQuery);
+                 Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, countQuery);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
+
+                if(parameterSetter != null) parameterSetter.accept(ps);
+
+                try (ResultSet rs = execution.executeQuery(ps)) {
+                    if (execution.next(rs)) {
+                        return execution.completed(rs.getLong(1));
+                    }
+                    return execution.completed(0L);
+                }
+            } catch (SQLException e) {
+                throw new RedshiftException("CountTotalElements: " + e.getMessage());
+            }
+        }
+
+        private String buildKeysetQuery(List<Sort.Order> keys, List<String> columns, boolean seek) {
+            StringBuilder keysetQuery = new StringBuilder("SELECT * FROM (").append(query).append(") AS keyset_query");
+            if (seek) {
+                keysetQuery.append(" WHERE ");
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) keysetQuery.append(" OR ");
+                    keysetQuery.append("(");
+                    for (int j = 0; j < i; j++) keysetQuery.append(columns.get(j)).append(" = ? AND ");
+                    keysetQuery.append(columns.get(i)).append(keys.get(i).isAscending() ? " > ?" : " < ?").append(")");
+                }
+            }
+            keysetQuery.append(" ORDER BY ");
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) keysetQuery.append(", ");
+                keysetQuery.append(columns.get(i)).append(keys.get(i).isAscending() ? " ASC" : " DESC");
+            }
+            return keysetQuery.append(" LIMIT ?").toString();
+        }
+
+        private static String unqualified(String column) {
+            return column.substring(column.lastIndexOf('.') + 1);
+        }
+
+        private String buildOrderByClause(Sort sort) {
+            if (sort == null || sort.isUnsorted()) return "";
+            StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+            sort.forEach(order -> orderBy.append(order.getProperty())
+                    .append(" ")
+                    .append(order.isAscending() ? "ASC" : "DESC")
+                    .append(", "));
+            orderBy.setLength(orderBy.length() - 2);
+            return orderBy.toString();
+        }
+
+        private void validationQuery(String query) {
+            if(!SqlValidator.isValidQuery(query)) {
+                throw new RedshiftException(query + " is not valid");
+            }
+        }
+
+        private record CountKey(String query, List<Object> parameters) {
+        }
+
+        private record CachedTotal(long total, long expiresAt) {
+        }
+    }
+
+    @Slf4j
+    public static class JdbcBatchUpdate {
+        private final DataSource dataSource;
+        private Duration queryTimeout;
+        private long deadline;
+        private String query;
+        private final List<RowSource<?>> sources = new ArrayList<>();
+        private List<List<Object>> batchParameters;
+        private SQLConsumer<int[]> successHandler;
+        private SQLConsumer<BatchSummary> summaryHandler;
+        private SQLConsumer<BatchProgress> progressHandler;
+        private SQLConsumer<Throwable> failureHandler;
+        private boolean success;
+        private Throwable error;
+        private Integer isolationLevel;
+        private int batchSize = 100;
+        private int readAhead;
+        private boolean rewriteInserts;
+        private int maxStatementParameters = 32767;
+        private int maxStatementLength = 16 * 1024 * 1024;
+        private int parallelism = 1;
+        private int commitEvery;
+        private AdaptiveBatchSize adaptiveBatchSize;
+        private SQLConsumer<BatchCommit> commitHandler;
+        private Telemetry telemetry = Telemetry.DISABLED;
+        private Telemetry.Execution execution = Telemetry.DISABLED.start(null, null);
+
+        public JdbcBatchUpdate(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * Prazo da carga inteira: cada instrução recebe o tempo que resta e é cancelada no servidor quando ele termina.
+         */
+        public JdbcBatchUpdate queryTimeout(Duration queryTimeout) {
+            this.queryTimeout = validateTimeout(queryTimeout);
+            return this;
+        }
+
+        JdbcBatchUpdate telemetry(Telemetry telemetry) {
+            this.telemetry = telemetry;
+            return this;
+        }
+
+        public JdbcBatchUpdate query(String query) {
+            validationDMLQuery(query);
+            this.query = query;
+            return this;
+        }
+
+        public JdbcBatchUpdate addBatchParameters(List<Object> parameters) {
+            if (batchParameters == null) {
+                List<List<Object>> rows = new ArrayList<>();
+                addSource(new RowSource<>(rows::iterator, new ListRowBinder(), null));
+                batchParameters = rows;
+            }
+            batchParameters.add(parameters);
+            return this;
+        }
+
+        public JdbcBatchUpdate addBatchParameters(Iterator<? extends List<Object>> parameters) {
+            Objects.requireNonNull(parameters, "parameters is null");
+            return addSource(new RowSource<>(() -> parameters, new ListRowBinder(), null));
+        }
+
+        public JdbcBatchUpdate addBatchParameters(Stream<? extends List<Object>> parameters) {
+            Objects.requireNonNull(parameters, "parameters is null");
+            return addSource(new RowSource<>(parameters::iterator, new ListRowBinder(), parameters));
+        }
+
+        /**
+         * Adiciona linhas tipadas ao lote; o {@link RowBinder} vincula cada parâmetro com
+         * {@link ParameterRow}, sem converter primitivos em {@code List<Object>}.
+         */
+        public <T> JdbcBatchUpdate addBatchRows(Iterable<? extends T> rows, RowBinder<? super T> binder) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new RowSource<T>(rows::iterator, binder, null));
+        }
+
+        /**
+         * As fontes {@link Iterator}, {@link Stream}, {@link Spliterator} e {@link Flow.Publisher} são lidas
+         * sob demanda durante o {@link #execute()}, {@code batchSize} linhas por vez, sem manter a carga inteira em memória.
+         */
+        public <T> JdbcBatchUpdate addBatchRows(Iterator<? extends T> rows, RowBinder<? super T> binder) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new RowSource<T>(() -> rows, binder, null));
+        }
+
+        public <T> JdbcBatchUpdate addBatchRows(Stream<? extends T> rows, RowBinder<? super T> binder) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new RowSource<T>(rows::iterator, binder, rows));
+        }
+
+        public <T> JdbcBatchUpdate addBatchRows(Spliterator<? extends T> rows, RowBinder<? super T> binder) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new RowSource<T>(() -> Spliterators.iterator(rows), binder, null));
+        }
+
+        /**
+         * O publisher é assinado no {@link #execute()} e recebe demanda limitada a {@link #readAhead(int)}
+         * (padrão: {@code batchSize}) linhas ainda não consumidas.
+         */
+        public <T> JdbcBatchUpdate addBatchRows(Flow.Publisher<? extends T> rows, RowBinder<? super T> binder) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new RowSource<T>(() -> new PublisherIterator<>(rows, readAhead > 0 ? readAhead : batchSize), binder, null));
+        }
+
+        private JdbcBatchUpdate addSource(RowSource<?> source) {
+            Objects.requireNonNull(source.binder(), "binder is null");
+            sources.add(source);
+            batchParameters = null;
+            return this;
+        }
+
+        public JdbcBatchUpdate isolationLevel(int isolationLevel) {
+            validateIsolationLevel(isolationLevel);
+            this.isolationLevel = isolationLevel;
+            return this;
+        }
+
+        public JdbcBatchUpdate batchSize(int batchSize) {
+            if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be greater than 0.");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Ajusta o tamanho do bloco entre {@code min} e {@code max} pela latência e pelas linhas por segundo de
+         * cada ida ao banco, sem passar de {@code latencyCeiling}. Começa em {@link #batchSize(int)} e o tamanho
+         * em uso aparece em {@link BatchProgress#batchSize()} e {@link #currentBatchSize()}.
+         */
+        public JdbcBatchUpdate adaptiveBatchSize(int min, int max, Duration latencyCeiling) {
+            if (min <= 0 || max < min) throw new IllegalArgumentException("Adaptive batch size requires 0 < min <= max.");
+            if (latencyCeiling == null || latencyCeiling.isNegative() || latencyCeiling.isZero())
+                throw new IllegalArgumentException("Latency ceiling must be positive.");
+            this.adaptiveBatchSize = new AdaptiveBatchSize(batchSize, min, max, latencyCeiling);
+            return this;
+        }
+
+        public int currentBatchSize() {
+            return adaptiveBatchSize != null ? adaptiveBatchSize.size() : batchSize;
+        }
+
+        private int maxBatchSize() {
+            return adaptiveBatchSize != null ? adaptiveBatchSize.max() : batchSize;
+        }
+
+        private void measured(int rows, long nanos) {
+            if (adaptiveBatchSize != null) adaptiveBatchSize.record(rows, nanos);
+        }
+
+        public JdbcBatchUpdate readAhead(int readAhead) {
+            if (readAhead <= 0) throw new IllegalArgumentException("Read ahead must be greater than 0.");
+            this.readAhead = readAhead;
+            return this;
+        }
+
+        /**
+         * Reescreve um {@code INSERT ... VALUES (?, ...)} simples em um único
+         * {@code INSERT ... VALUES (...), (...), ...} por bloco, em vez de uma escrita por linha.
+         * Cada bloco tem até {@code batchSize} linhas, limitado por {@link #maxStatementParameters(int)}
+         * e {@link #maxStatementLength(int)}. Outras instruções seguem em lote JDBC comum.
+         */
+        public JdbcBatchUpdate rewriteInserts(boolean rewriteInserts) {
+            this.rewriteInserts = rewriteInserts;
+            return this;
+        }
+
+        public JdbcBatchUpdate maxStatementParameters(int maxStatementParameters) {
+            if (maxStatementParameters <= 0) throw new IllegalArgumentException("Max statement parameters must be greater than 0.");
+            this.maxStatementParameters = maxStatementParameters;
+            return this;
+        }
+
+        public JdbcBatchUpdate maxStatementLength(int maxStatementLength) {
+            if (maxStatementLength <= 0) throw new IllegalArgumentException("Max statement length must be greater than 0.");
+            this.maxStatementLength = maxStatementLength;
+            return this;
+        }
+
+        /**
+         * Executa até {@code parallelism} blocos ao mesmo tempo, cada um em sua própria conexão do pool e
+         * virtual thread. A leitura das fontes só avança quando há vaga, então no máximo
+         * {@code parallelism + 1} blocos ficam em memória. Após a primeira falha nenhum bloco novo é
+         * iniciado e o {@code onFailure} recebe uma {@link BatchExecutionException} com os blocos que falharam.
+         * Cada bloco confirma por conta própria e os {@link RowBinder} rodam nas threads dos blocos.
+         */
+        public JdbcBatchUpdate parallelism(int parallelism) {
+            if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be greater than 0.");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Desliga o autocommit e confirma a cada {@code chunks} blocos, em vez de um commit por
+         * {@code executeBatch()}. Uma falha desfaz o bloco junto com o restante da sua janela; as janelas já
+         * confirmadas são informadas em {@link #onCommit(SQLConsumer)}.
+         */
+        public JdbcBatchUpdate commitEvery(int chunks) {
+            if (chunks <= 0) throw new IllegalArgumentException("Commit interval must be greater than 0.");
+            this.commitEvery = chunks;
+            return this;
+        }
+
+        /**
+         * Todos os blocos em uma única transação, confirmada ao final.
+         */
+        public JdbcBatchUpdate singleTransaction() {
+            this.commitEvery = Integer.MAX_VALUE;
+            return this;
+        }
+
+        public void execute() {
+            if (commitEvery > 0 && parallelism > 1)
+                throw new IllegalArgumentException("commitEvery/singleTransaction cannot be combined with parallelism.");
+            if (parallelism > 1 && JdbcSession.isSession(dataSource))
+                throw new IllegalArgumentException("parallelism cannot be used inside a session.");
+
+            BatchTracker tracker = new BatchTracker(successHandler != null, this::currentBatchSize);
+            MultiRowInsert insert = rewriteInserts ? MultiRowInsert.parse(query) : null;
+            deadline = QueryWatchdog.deadline(queryTimeout);
+            if (rewriteInserts && insert == null) log.debug("Statement is not a single-row INSERT ... VALUES, executing as JDBC batch");
+
+            execution = telemetry.start("JdbcBatchUpdate", query);
+            try {
+                if (parallelism > 1) executeParallel(insert, tracker);
+                else executeSequential(insert, tracker);
+
+                success = true;
+                execution.completed();
+                successVerify(tracker);
+            } catch (SQLException e) {
+                failed(e);
+                failureVerify();
+                throw new RedshiftException(e);
+            } catch (RuntimeException e) {
+                failed(e);
+                failureVerify();
+                throw e;
+            } finally {
+                sources.forEach(RowSource::close);
+                execution.close();
+            }
+        }
+
+        /**
+         * Executa na conexão (e transação) do chamador, sem handlers e com o prazo dele; usado pelo {@code JdbcUpsert}.
+         */
+        BatchSummary executeOn(Connection connection, long deadline) throws SQLException {
+            BatchTracker tracker = new BatchTracker(false, this::currentBatchSize);
+            MultiRowInsert insert = rewriteInserts ? MultiRowInsert.parse(query) : null;
+            this.deadline = deadline;
+            try {
+                if (insert != null) executeRewritten(connection, insert, tracker);
+                else executeBatched(connection, tracker);
+            } finally {
+                sources.forEach(RowSource::close);
+            }
+            return tracker.summary();
+        }
+
+        static RowBinder<List<Object>> listBinder() {
+            return new ListRowBinder();
+        }
+
+        private void executeSequential(MultiRowInsert insert, BatchTracker tracker) throws SQLException {
+            try (Connection connection = execution.connection(dataSource)) {
+                if (isolationLevel != null) connection.setTransactionIsolation(isolationLevel);
+                if (commitEvery == 0) {
+                    if (insert != null) executeRewritten(connection, insert, tracker);
+                    else executeBatched(connection, tracker);
+                    return;
+                }
+
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                Throwable failure = null;
+                try {
+                    if (insert != null) executeRewritten(connection, insert, tracker);
+                    else executeBatched(connection, tracker);
+                    commit(connection, tracker);
+                } catch (SQLException | RuntimeException e) {
+                    failure = e;
+                    try {
+                        connection.rollback();
+                    } catch (SQLException rollbackError) {
+                        e.addSuppressed(rollbackError);
+                    }
+                    throw e;
+                } finally {
+                    restoreAutoCommit(connection, autoCommit, failure);
+                }
+            }
+        }
+
+        private void commitIfDue(Connection connection, BatchTracker tracker) throws SQLException {
+            if (commitEvery > 0 && tracker.uncommittedChunks() >= commitEvery) commit(connection, tracker);
+        }
+
+        private void commit(Connection connection, BatchTracker tracker) throws SQLException {
+            if (tracker.uncommittedChunks() == 0) return;
+            connection.commit();
+            commitVerify(tracker.committed());
+        }
+
+        private void executeBatched(Connection connection, BatchTracker tracker) throws SQLException {
+            try (PreparedStatement ps = execution.prepare(connection, query)) {
+                ParameterRow row = new ParameterRow();
+                for (RowSource<?> source : sources) {
+                    addRows(ps, row, source, tracker);
+                }
+                if (tracker.pending() > 0) executeChunk(ps, tracker);
+            }
+        }
+
+        private <T> void addRows(PreparedStatement ps, ParameterRow row, RowSource<T> source, BatchTracker tracker) throws SQLException {
+            Iterator<? extends T> rows = source.open();
+            while (rows.hasNext()) {
+                source.binder().bind(row.reset(ps, 0), rows.next());
+                ps.addBatch();
+                if (tracker.added() >= currentBatchSize()) executeChunk(ps, tracker);
+            }
+        }
+
+        private void executeChunk(PreparedStatement ps, BatchTracker tracker) throws SQLException {
+            long start = System.nanoTime();
+            int[] updateCounts = executeBatch(ps);
+            measured(updateCounts.length, System.nanoTime() - start);
+            ps.clearBatch();
+            progressVerify(tracker.executed(updateCounts));
+            commitIfDue(ps.getConnection(), tracker);
+        }
+
+        private void executeRewritten(Connection connection, MultiRowInsert insert, BatchTracker tracker) throws SQLException {
+            PendingRows pending = new PendingRows(insert.rowsPerStatement(maxBatchSize(), maxStatementParameters, maxStatementLength));
+            try (RewrittenStatement statement = new RewrittenStatement(connection, insert, execution)) {
+                for (RowSource<?> source : sources) {
+                    addRewrittenRows(statement, source, pending, tracker);
+                }
+                if (pending.size() > 0) executeStatement(statement, pending, tracker);
+            }
+        }
+
+        private <T> void addRewrittenRows(RewrittenStatement statement, RowSource<T> source, PendingRows pending, BatchTracker tracker) throws SQLException {
+            Iterator<? extends T> rows = source.open();
+            while (rows.hasNext()) {
+                pending.add(rows.next(), source.binder());
+                if (pending.size() >= Math.min(currentBatchSize(), pending.capacity())) executeStatement(statement, pending, tracker);
+            }
+        }
+
+        private void executeStatement(RewrittenStatement statement, PendingRows pending, BatchTracker tracker) throws SQLException {
+            PreparedStatement ps = statement.prepare(pending.size());
+            bindRewritten(ps, statement.row, statement.insert, pending);
+            long start = System.nanoTime();
+            int affected = executeUpdate(ps, pending.size());
+            measured(pending.size(), System.nanoTime() - start);
+            progressVerify(tracker.executed(pending.size(), affected));
+            pending.clear();
+            commitIfDue(statement.connection, tracker);
+        }
+
+        private int[] executeBatch(PreparedStatement ps) throws SQLException {
+            try (QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, deadline)) {
+                return execution.executeBatch(ps);
+            }
+        }
+
+        private int executeUpdate(PreparedStatement ps, int rows) throws SQLException {
+            try (QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, deadline)) {
+                return execution.executeChunk(ps, rows);
+            }
+        }
+
+        /**
+         * INSERT multi-linha preparado para a quantidade de linhas do bloco atual; só é preparado de novo
+         * quando essa quantidade muda (último bloco ou tamanho adaptativo).
+         */
+        private static final class RewrittenStatement implements AutoCloseable {
+            private final Connection connection;
+            private final MultiRowInsert insert;
+            private final Telemetry.Execution execution;
+            private final ParameterRow row = new ParameterRow();
+            private PreparedStatement ps;
+            private int rows;
+
+            RewrittenStatement(Connection connection, MultiRowInsert insert, Telemetry.Execution execution) {
+                this.connection = connection;
+                this.insert = insert;
+                this.execution = execution;
+            }
+
+            PreparedStatement prepare(int rows) throws SQLException {
+                if (ps == null || this.rows != rows) {
+                    close();
+                    ps = execution.prepare(connection, insert.statement(rows));
+                    this.rows = rows;
+                }
+                return ps;
+            }
+
+            @Override
+            public void close() throws SQLException {
+                if (ps != null) {
+                    PreparedStatement current = ps;
+                    ps = null;
+                    current.close();
+                }
+            }
+        }
+
+        private static void bindRewritten(PreparedStatement ps, ParameterRow row, MultiRowInsert insert, PendingRows pending) throws SQLException {
+            row.reset(ps, 0);
+            for (int i = 0; i < pending.size(); i++) {
+                pending.bind(i, row);
+                if (row.position() != (i + 1) * insert.parametersPerRow())
+                    throw new RedshiftException("Row " + i + " bound " + (row.position() - i * insert.parametersPerRow())
+                            + " parameters, expected " + insert.parametersPerRow());
+            }
+        }
+
+        private void executeParallel(MultiRowInsert insert, BatchTracker tracker) {
+            int maxRowsPerChunk = insert != null ? insert.rowsPerStatement(maxBatchSize(), maxStatementParameters, maxStatementLength) : maxBatchSize();
+            ParallelChunks chunks = new ParallelChunks(insert, tracker, maxRowsPerChunk);
+            try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("redshift-batch-", 0).factory())) {
+                chunks.executor = executor;
+                for (RowSource<?> source : sources) {
+                    if (!chunks.addRows(source)) break;
+                }
+                chunks.flush();
+            }
+            if (!chunks.failures.isEmpty()) {
+                List<BatchExecutionException.ChunkFailure> failures = new ArrayList<>(chunks.failures);
+                failures.sort(Comparator.comparingInt(BatchExecutionException.ChunkFailure::chunk));
+                BatchSummary summary = tracker.summary();
+                throw new BatchExecutionException(failures, summary.rows(), summary.chunks());
+            }
+        }
+
+        private void executeChunk(MultiRowInsert insert, PendingRows chunk, int sequence, BatchTracker tracker) throws SQLException {
+            try (Connection connection = execution.connection(dataSource)) {
+                if (isolationLevel != null) connection.setTransactionIsolation(isolationLevel);
+                ParameterRow row = new ParameterRow();
+
+                if (insert != null) {
+                    try (PreparedStatement ps = execution.prepare(connection, insert.statement(chunk.size()))) {
+                        bindRewritten(ps, row, insert, chunk);
+                        long start = System.nanoTime();
+                        int affected = executeUpdate(ps, chunk.size());
+                        measured(chunk.size(), System.nanoTime() - start);
+                        synchronized (tracker) {
+                            progressVerify(tracker.executed(sequence, chunk.size(), null, Math.max(affected, 0)));
+                        }
+                    }
+                } else {
+                    try (PreparedStatement ps = execution.prepare(connection, query)) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            chunk.bind(i, row.reset(ps, 0));
+                            ps.addBatch();
+                        }
+                        long start = System.nanoTime();
+                        int[] updateCounts = executeBatch(ps);
+                        measured(chunk.size(), System.nanoTime() - start);
+                        synchronized (tracker) {
+                            progressVerify(tracker.executed(sequence, chunk.size(), updateCounts, BatchTracker.affected(updateCounts)));
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Agrupa as linhas lidas em blocos e despacha cada bloco para uma virtual thread, limitado por um semáforo.
+         */
+        private final class ParallelChunks {
+            private final MultiRowInsert insert;
+            private final BatchTracker tracker;
+            private final int maxRowsPerChunk;
+            private final Semaphore permits = new Semaphore(parallelism);
+            private final Queue<BatchExecutionException.ChunkFailure> failures = new ConcurrentLinkedQueue<>();
+            private ExecutorService executor;
+            private PendingRows chunk;
+            private int sequence;
+            private long firstRow;
+
+            ParallelChunks(MultiRowInsert insert, BatchTracker tracker, int maxRowsPerChunk) {
+                this.insert = insert;
+                this.tracker = tracker;
+                this.maxRowsPerChunk = maxRowsPerChunk;
+                this.chunk = new PendingRows(maxRowsPerChunk);
+            }
+
+            <T> boolean addRows(RowSource<T> source) {
+                Iterator<? extends T> rows = source.open();
+                while (rows.hasNext() && failures.isEmpty()) {
+                    chunk.add(rows.next(), source.binder());
+                    if (chunk.size() >= Math.min(currentBatchSize(), maxRowsPerChunk)) flush();
+                }
+                return failures.isEmpty();
+            }
+
+            void flush() {
+                if (chunk.size() == 0 || !failures.isEmpty()) return;
+                PendingRows rows = chunk;
+                int chunkSequence = sequence++;
+                long chunkFirstRow = firstRow;
+                firstRow += rows.size();
+                chunk = new PendingRows(maxRowsPerChunk);
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RedshiftException("Batch execution interrupted", e);
+                }
+                executor.execute(() -> {
+                    try {
+                        executeChunk(insert, rows, chunkSequence, tracker);
+                    } catch (SQLException | RuntimeException e) {
+                        failures.add(new BatchExecutionException.ChunkFailure(chunkSequence, chunkFirstRow, rows.size(), e));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        /**
+         * Linhas do bloco atual, vinculadas só quando o tamanho da instrução é conhecido.
+         */
+        private static final class PendingRows {
+            private final Object[] values;
+            private final RowBinder<?>[] binders;
+            private int size;
+
+            PendingRows(int capacity) {
+                this.values = new Object[capacity];
+                this.binders = new RowBinder<?>[capacity];
+            }
+
+            <T> void add(T value, RowBinder<? super T> binder) {
+                values[size] = value;
+                binders[size++] = binder;
+            }
+
+            @SuppressWarnings("unchecked")
+            void bind(int i, ParameterRow row) throws SQLException {
+                ((RowBinder<Object>) binders[i]).bind(row, values[i]);
+            }
+
+            int size() {
+                return size;
+            }
+
+            int capacity() {
+                return values.length;
+            }
+
+            void clear() {
+                Arrays.fill(values, 0, size, null);
+                Arrays.fill(binders, 0, size, null);
+                size = 0;
+            }
+        }
+
+        private static final class ListRowBinder implements RowBinder<List<Object>> {
+            private ParameterBinder binder;
+
+            @Override
+            public void bind(ParameterRow row, List<Object> parameters) throws SQLException {
+                if (binder == null) binder = ParameterBinder.of(parameters);
+                row.bind(binder, parameters);
+            }
+        }
+
+        private static final class RowSource<T> {
+            private final Supplier<? extends Iterator<? extends T>> rows;
+            private final RowBinder<? super T> binder;
+            private final AutoCloseable resource;
+            private Iterator<? extends T> iterator;
+
+            RowSource(Supplier<? extends Iterator<? extends T>> rows, RowBinder<? super T> binder, AutoCloseable resource) {
+                this.rows = rows;
+                this.binder = binder;
+                this.resource = resource;
+            }
+
+            RowBinder<? super T> binder() {
+                return binder;
+            }
+
+            Iterator<? extends T> open() {
+                iterator = rows.get();
+                return iterator;
+            }
+
+            void close() {
+                try {
+                    if (iterator instanceof AutoCloseable closeable) closeable.close();
+                    if (resource != null) resource.close();
+                } catch (Exception e) {
+                    log.error("Error while closing batch row source", e);
+                }
+            }
+        }
+
+        private static final class BatchTracker {
+            private final boolean collectUpdateCounts;
+            private final IntSupplier batchSize;
+            private int[] updateCounts = new int[0];
+            private int updateCountsSize;
+            private final Map<Integer, int[]> outOfOrder = new HashMap<>();
+            private int nextSequence;
+            private int pending;
+            private int chunks;
+            private long rows;
+            private long rowsAffected;
+            private int commits;
+            private int committedChunks;
+            private long committedRows;
+
+            BatchTracker(boolean collectUpdateCounts, IntSupplier batchSize) {
+                this.collectUpdateCounts = collectUpdateCounts;
+                this.batchSize = batchSize;
+            }
+
+            int added() {
+                return ++pending;
+            }
+
+            int pending() {
+                return pending;
+            }
+
+            BatchProgress executed(int[] chunkCounts) {
+                return executed(chunks, pending, chunkCounts, affected(chunkCounts));
+            }
+
+            /**
+             * Bloco reescrito em uma instrução: o driver só informa o total, então cada linha recebe
+             * {@link Statement#SUCCESS_NO_INFO} em {@link #updateCounts()}.
+             */
+            BatchProgress executed(int chunkRows, int affected) {
+                return executed(chunks, chunkRows, null, Math.max(affected, 0));
+            }
+
+            /**
+             * Registra o bloco {@code sequence}; na execução paralela os blocos terminam fora de ordem e os
+             * update counts são guardados até que os blocos anteriores cheguem.
+             */
+            synchronized BatchProgress executed(int sequence, int chunkRows, int[] chunkCounts, long affected) {
+                if (collectUpdateCounts) {
+                    if (chunkCounts == null) {
+                        chunkCounts = new int[chunkRows];
+                        Arrays.fill(chunkCounts, Statement.SUCCESS_NO_INFO);
+                    }
+                    outOfOrder.put(sequence, chunkCounts);
+                    for (int[] next = outOfOrder.remove(nextSequence); next != null; next = outOfOrder.remove(nextSequence)) {
+                        append(next);
+                        nextSequence++;
+                    }
+                }
+                chunks++;
+                rows += chunkRows;
+                rowsAffected += affected;
+                pending = 0;
+                return new BatchProgress(chunks, chunkRows, affected, rows, rowsAffected, batchSize.getAsInt());
+            }
+
+            int uncommittedChunks() {
+                return chunks - committedChunks;
+            }
+
+            BatchCommit committed() {
+                BatchCommit commit = new BatchCommit(++commits, committedChunks + 1, chunks, rows - committedRows, rows);
+                committedChunks = chunks;
+                committedRows = rows;
+                return commit;
+            }
+
+            static long affected(int[] chunkCounts) {
+                long affected = 0;
+                for (int uc : chunkCounts) if (uc > 0) affected += uc;
+                return affected;
+            }
+
+            private void append(int[] chunkCounts) {
+                if (updateCountsSize + chunkCounts.length > updateCounts.length)
+                    updateCounts = Arrays.copyOf(updateCounts, Math.max(updateCounts.length * 2, updateCountsSize + chunkCounts.length));
+                System.arraycopy(chunkCounts, 0, updateCounts, updateCountsSize, chunkCounts.length);
+                updateCountsSize += chunkCounts.length;
+            }
+
+            synchronized int[] updateCounts() {
+                return Arrays.copyOf(updateCounts, updateCountsSize);
+            }
+
+            synchronized BatchSummary summary() {
+                return new BatchSummary(rows, rowsAffected, chunks);
+            }
+        }
+
+        private void failed(Throwable t) {
+            this.error = t != null ? t : new NoStackTraceThrowable((String) null);
+            this.success = false;
+        }
+
+        /**
+         * Recebe todos os update counts em um único {@code int[]}; para cargas grandes prefira
+         * {@link #onSummary(SQLConsumer)} e {@link #onProgress(SQLConsumer)}, que não acumulam os contadores.
+         */
+        public JdbcBatchUpdate onSuccess(SQLConsumer<int[]> successHandler) {
+            this.successHandler = Objects.requireNonNull(successHandler, "successHandler is null");
+            return this;
+        }
+
+        public JdbcBatchUpdate onSummary(SQLConsumer<BatchSummary> summaryHandler) {
+            this.summaryHandler = Objects.requireNonNull(summaryHandler, "summaryHandler is null");
+            return this;
+        }
+
+        public JdbcBatchUpdate onCommit(SQLConsumer<BatchCommit> commitHandler) {
+            this.commitHandler = Objects.requireNonNull(commitHandler, "commitHandler is null");
+            return this;
+        }
+
+        public JdbcBatchUpdate onProgress(SQLConsumer<BatchProgress> progressHandler) {
+            this.progressHandler = Objects.requireNonNull(progressHandler, "progressHandler is null");
+            return this;
+        }
+
+        private void successVerify(BatchTracker tracker) {
+            long start = successHandler != null || summaryHandler != null ? execution.handlerStart() : 0;
+            if (success && successHandler != null) {
+                try {
+                    successHandler.accept(tracker.updateCounts());
+                } catch (SQLException e) {
+                    log.error("Error during success handler execution", e);
+                }
+            }
+            if (success && summaryHandler != null) {
+                try {
+                    summaryHandler.accept(tracker.summary());
+                } catch (SQLException e) {
+                    log.error("Error during summary handler execution", e);
+                }
+            }
+            if (start != 0) execution.handled(start);
+        }
+
+        private void commitVerify(BatchCommit commit) {
+            if (commitHandler != null) {
+                long start = execution.handlerStart();
+                try {
+                    commitHandler.accept(commit);
+                } catch (SQLException e) {
+                    log.error("Error during commit handler execution", e);
+                } finally {
+                    execution.handled(start);
+                }
+            }
+        }
+
+        private void progressVerify(BatchProgress progress) {
+            if (progressHandler != null) {
+                long start = execution.handlerStart();
+                try {
+                    progressHandler.accept(progress);
+                } catch (SQLException e) {
+                    log.error("Error during progress handler execution", e);
+                } finally {
+                    execution.handled(start);
+                }
+            }
+        }
+
+        public JdbcBatchUpdate onFailure(SQLConsumer<Throwable> failureHandler) {
+            this.failureHandler = Objects.requireNonNull(failureHandler, "failureHandler is null");
+            return this;
+        }
+
+        private void failureVerify() {
+            if (!success && failureHandler != null) {
+                long start = execution.handlerStart();
+                try {
+                    failureHandler.accept(error);
+                } catch (SQLException e) {
+                    log.error("Error during failure handler execution", e);
+                } finally {
+                    execution.handled(start);
+                }
+            }
+        }
+    }
+
+    @Slf4j
+    public static class JdbcBulkLoad {
+        private final DataSource dataSource;
+        private Duration queryTimeout;
+        private String table;
+        private List<String> columns = List.of();
+        private Stager stager;
+        private BulkFormat format = BulkFormat.CSV;
+        private String iamRole;
+        private int slices = Runtime.getRuntime().availableProcessors();
+        private long maxPartBytes = 128L * 1024 * 1024;
+        private final List<StagingWriter.Source<?>> sources = new ArrayList<>();
+        private SQLConsumer<BulkLoadSummary> successHandler;
+        private SQLConsumer<Throwable> failureHandler;
+        private boolean success;
+        private Throwable error;
+        private BulkLoadSummary summary;
+
+        public JdbcBulkLoad(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * Prazo do COPY, contado depois da gravação das partes; ao terminar, o COPY é cancelado no servidor.
+         */
+        public JdbcBulkLoad queryTimeout(Duration queryTimeout) {
+            this.queryTimeout = validateTimeout(queryTimeout);
+            return this;
+        }
+
+        public JdbcBulkLoad table(String table) {
+            this.table = validateTable(table);
+            return this;
+        }
+
+        /**
+         * Colunas de destino, na ordem dos valores de cada linha; obrigatórias para {@link BulkFormat#JSON}.
+         */
+        public JdbcBulkLoad columns(String... columns) {
+            this.columns = validateColumns(columns);
+            return this;
+        }
+
+        public JdbcBulkLoad stager(Stager stager) {
+            this.stager = Objects.requireNonNull(stager, "stager is null");
             return this;
         }
 
-        public JdbcQueryPage pageSize(int pageSize) {
-            if (pageSize <= 0) throw new IllegalArgumentException("Page size must be greater than 0.");
-            this.pageSize = pageSize;
+        public JdbcBulkLoad format(BulkFormat format) {
+            this.format = Objects.requireNonNull(format, "format is null");
             return this;
         }
 
-        public JdbcQueryPage pageIndex(int pageIndex) {
-            if (pageIndex < 0) throw new IllegalArgumentException("Page index cannot be negative.");
-            this.pageIndex = pageIndex;
+        public JdbcBulkLoad iamRole(String iamRole) {
+            if (iamRole == null || iamRole.contains("'")) throw new IllegalArgumentException("Invalid IAM role: " + iamRole);
+            this.iamRole = iamRole;
             return this;
         }
 
-        public JdbcQueryPage sort(Sort sort){
-            this.sort = sort;
+        /**
+         * Quantidade de partes gravadas em paralelo; use um múltiplo dos slices do cluster (padrão: processadores disponíveis).
+         */
+        public JdbcBulkLoad slices(int slices) {
+            if (slices <= 0) throw new IllegalArgumentException("Slices must be greater than 0.");
+            this.slices = slices;
             return this;
         }
 
-        public <T> Page<T> executePagedQuery(SQLFunction<ResultSet, T> mapper) {
-            String orderByClause = buildOrderByClause(sort);
-            String paginatedQuery = query + orderByClause + " LIMIT ? OFFSET ?";
-            long totalElements = countTotalElements();
+        public JdbcBulkLoad maxPartBytes(long maxPartBytes) {
+            if (maxPartBytes <= 0) throw new IllegalArgumentException("Max part bytes must be greater than 0.");
+            this.maxPartBytes = maxPartBytes;
+            return this;
+        }
 
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(paginatedQuery)) {
+        public JdbcBulkLoad addRows(Iterable<? extends List<?>> rows) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new StagingWriter.Source<>(rows::iterator, row -> row, null));
+        }
 
-                if(parameterSetter != null) parameterSetter.accept(ps);
-                ps.setInt(ps.getParameterMetaData().getParameterCount() - 1, pageSize);
-                ps.setInt(ps.getParameterMetaData().getParameterCount(), pageIndex * pageSize);
+        public JdbcBulkLoad addRows(Stream<? extends List<?>> rows) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new StagingWriter.Source<>(rows::iterator, row -> row, rows));
+        }
 
-                try (ResultSet rs = ps.executeQuery()) {
-                    List<T> elements = new ArrayList<>();
-                    while (rs.next()) {
-                        elements.add(mapper.apply(rs));
-                    }
+        /**
+         * Linhas tipadas; {@code columns} devolve os valores na ordem de {@link #columns(String...)} e
+         * roda nas threads dos slices.
+         */
+        public <T> JdbcBulkLoad addRows(Iterable<? extends T> rows, Function<? super T, ? extends List<?>> columns) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new StagingWriter.Source<T>(rows::iterator, columns, null));
+        }
 
-                    return new PageImpl<>(
-                            elements,
-                            PageRequest.of(pageIndex, pageSize),
-                            totalElements
-                    );
-                }
-            } catch (SQLException e) {
-                throw new RedshiftException(e);
-            }
+        public <T> JdbcBulkLoad addRows(Iterator<? extends T> rows, Function<? super T, ? extends List<?>> columns) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new StagingWriter.Source<T>(() -> rows, columns, null));
         }
 
-        public <T> Page<T> executePagedQuery(Class<T> clazz) {
-            String orderByClause = buildOrderByClause(sort);
-            String paginatedQuery = query + orderByClause + " LIMIT ? OFFSET ?";
-            long totalElements = countTotalElements();
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(paginatedQuery)) {
+        public <T> JdbcBulkLoad addRows(Stream<? extends T> rows, Function<? super T, ? extends List<?>> columns) {
+            Objects.requireNonNull(rows, "rows is null");
+            return addSource(new StagingWriter.Source<T>(rows::iterator, columns, rows));
+        }
 
-                if(parameterSetter != null) parameterSetter.accept(ps);
-                ps.setInt(ps.getParameterMetaData().getParameterCount() - 1, pageSize);
-                ps.setInt(ps.getParameterMetaData().getParameterCount(), pageIndex * pageSize);
+        private JdbcBulkLoad addSource(StagingWriter.Source<?> source) {
+            Objects.requireNonNull(source.columns(), "columns is null");
+            sources.add(source);
+            return this;
+        }
 
-                try (ResultSet rs = ps.executeQuery()) {
-                    List<T> elements = getElements(clazz, rs);
-                    return new PageImpl<>(
-                            elements,
-                            PageRequest.of(pageIndex, pageSize),
-                            totalElements
-                    );
+        public void execute() {
+            Objects.requireNonNull(table, "table is null");
+            Objects.requireNonNull(stager, "stager is null");
+            if (format == BulkFormat.JSON && columns.isEmpty()) throw new IllegalArgumentException("JSON bulk load requires columns.");
+
+            String loadId = UUID.randomUUID().toString();
+            try {
+                StagingWriter.Result staged = new StagingWriter(stager, loadId, format, columns, slices, maxPartBytes).write(sources);
+                long rowsLoaded = 0;
+                if (staged.rows() > 0) {
+                    try (Connection connection = dataSource.getConnection();
+                         Statement statement = connection.createStatement();
+                         QueryWatchdog.Ticket ticket = QueryWatchdog.watch(statement, QueryWatchdog.deadline(queryTimeout))) {
+                        rowsLoaded = statement.executeUpdate(copyStatement(stager.location(loadId)));
+                    }
                 }
-            } catch (SQLException e) {
+                summary = new BulkLoadSummary(staged.rows(), staged.bytes(), staged.parts(), rowsLoaded);
+                success = true;
+                successVerify();
+            } catch (SQLException | IOException e) {
+                failed(e);
+                failureVerify();
                 throw new RedshiftException(e);
+            } catch (RuntimeException e) {
+                failed(e);
+                failureVerify();
+                throw e;
+            } finally {
+                sources.forEach(StagingWriter.Source::close);
+                try {
+                    stager.cleanup(loadId);
+                } catch (IOException e) {
+                    log.error("Error while cleaning up bulk load {}", loadId, e);
+                }
             }
         }
 
-        private <T> List<T> getElements(Class<T> clazz, ResultSet rs) throws SQLException {
-            List<T> elements = new ArrayList<>();
-            while (rs.next()) {
-                Map<String, Object> map = resultSetToMap(rs);
-                elements.add(objectMapper.convertValue(map, clazz));
-            }
-            return elements;
+        private String copyStatement(String location) {
+            StringBuilder sql = new StringBuilder("COPY ").append(table);
+            if (!columns.isEmpty()) sql.append(" (").append(String.join(", ", columns)).append(')');
+            sql.append(" FROM '").append(location.replace("'", "''")).append("part-'");
+            if (iamRole != null) sql.append(" IAM_ROLE '").append(iamRole).append('\'');
+            return sql.append(' ').append(format.copyOption())
+                    .append(" GZIP TIMEFORMAT 'auto' DATEFORMAT 'auto'")
+                    .toString();
         }
 
-        private long countTotalElements() {
-            String countQuery = "SELECT COUNT(*) FROM (" + query + ") AS count_query";
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(countQuery)) {
-
-                if(parameterSetter != null) parameterSetter.accept(ps);
-
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        return rs.getLong(1);
-                    }
-                    return 0;
-                }
-            } catch (SQLException e) {
-                throw new RedshiftException("CountTotalElements: " + e.getMessage());
-            }
+        private void failed(Throwable t) {
+            this.error = t != null ? t : new NoStackTraceThrowable((String) null);
+            this.success = false;
         }
 
-        private String buildOrderByClause(Sort sort) {
-            if (sort.isUnsorted()) return "";
-            StringBuilder orderBy = new StringBuilder(" ORDER BY ");
-            sort.forEach(order -> orderBy.append(order.getProperty())
-                    .append(" ")
-                    .append(order.isAscending() ? "ASC" : "DESC")
-                    .append(", "));
-            orderBy.setLength(orderBy.length() - 2);
-            return orderBy.toString();
+        public JdbcBulkLoad onSuccess(SQLConsumer<BulkLoadSummary> successHandler) {
+            this.successHandler = Objects.requireNonNull(successHandler, "successHandler is null");
+            return this;
         }
 
-        private void validationQuery(String query) {
-            if(!isValidDQL(query) || !isUnsupportedDqlRedshift(query)) {
-                throw new RedshiftException(query + " is not valid");
+        private void successVerify() {
+            if (success && successHandler != null) {
+                try {
+                    successHandler.accept(summary);
+                } catch (SQLException e) {
+                    log.error("Error during success handler execution", e);
+                }
             }
         }
 
-        private boolean isValidDQL(String sql) {
-            if (sql == null || sql.trim().isEmpty()) return false;
-            String trimmedSql = sql.trim();
-            return DQL_PATTERN.matcher(trimmedSql).matches();
+        public JdbcBulkLoad onFailure(SQLConsumer<Throwable> failureHandler) {
+            this.failureHandler = Objects.requireNonNull(failureHandler, "failureHandler is null");
+            return this;
         }
 
-        private boolean isUnsupportedDqlRedshift(String sql) {
-            for (String pattern : UNSUPPORTED_PATTERNS)
-                if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(sql).find()) return false;
-            return true;
+        private void failureVerify() {
+            if (!success && failureHandler != null) {
+                try {
+                    failureHandler.accept(error);
+                } catch (SQLException e) {
+                    log.error("Error during failure handler execution", e);
+                }
+            }
         }
     }
 
     @Slf4j
-    public static class JdbcBatchUpdate {
+    public static class JdbcUpsert {
         private final DataSource dataSource;
-        private String query;
-        private List<List<Object>> batchParameters = new ArrayList<>();
-        private SQLConsumer<int[]> successHandler;
+        private Duration queryTimeout;
+        private final JdbcBatchUpdate staging;
+        private String table;
+        private List<String> columns = List.of();
+        private List<String> keyColumns = List.of();
+        private Integer isolationLevel;
+        private SQLConsumer<UpsertSummary> successHandler;
         private SQLConsumer<Throwable> failureHandler;
         private boolean success;
         private Throwable error;
-        private Integer isolationLevel;
-        private int batchSize = 100;
+        private UpsertSummary summary;
 
-        public JdbcBatchUpdate(DataSource dataSource) {
+        public JdbcUpsert(DataSource dataSource) {
             this.dataSource = dataSource;
+            this.staging = new JdbcBatchUpdate(dataSource).rewriteInserts(true).batchSize(1000);
         }
 
-        public JdbcBatchUpdate query(String query) {
-            validationDMLQuery(query);
-            this.query = query;
+        /**
+         * Prazo do upsert inteiro (carga do staging, DELETE e INSERT); ao terminar, a instrução em execução é
+         * cancelada no servidor e a transação desfeita.
+         */
+        public JdbcUpsert queryTimeout(Duration queryTimeout) {
+            this.queryTimeout = validateTimeout(queryTimeout);
             return this;
         }
 
-        public JdbcBatchUpdate addBatchParameters(List<Object> parameters) {
-            batchParameters.add(parameters);
+        public JdbcUpsert table(String table) {
+            this.table = validateTable(table);
             return this;
         }
 
-        public JdbcBatchUpdate isolationLevel(int isolationLevel) {
+        /**
+         * Colunas carregadas, na ordem dos valores de cada linha.
+         */
+        public JdbcUpsert columns(String... columns) {
+            this.columns = validateColumns(columns);
+            return this;
+        }
+
+        /**
+         * Colunas que identificam a linha: linhas do destino com a mesma chave são substituídas. As linhas
+         * enviadas em um mesmo upsert devem ter chaves distintas; uma chave repetida faz o upsert falhar.
+         */
+        public JdbcUpsert keyColumns(String... keyColumns) {
+            this.keyColumns = validateColumns(keyColumns);
+            return this;
+        }
+
+        public JdbcUpsert isolationLevel(int isolationLevel) {
             validateIsolationLevel(isolationLevel);
             this.isolationLevel = isolationLevel;
             return this;
         }
 
-        public JdbcBatchUpdate batchSize(int batchSize) {
-            this.batchSize = batchSize;
+        /**
+         * Linhas por INSERT multi-linha na carga do staging (padrão 1000).
+         */
+        public JdbcUpsert batchSize(int batchSize) {
+            staging.batchSize(batchSize);
             return this;
         }
 
-        public void execute() {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(query)) {
-
-                if (isolationLevel != null) connection.setTransactionIsolation(isolationLevel);
+        public JdbcUpsert addRows(Iterable<? extends List<Object>> rows) {
+            staging.addBatchRows(rows, JdbcBatchUpdate.listBinder());
+            return this;
+        }
 
-                int count = 0;
-                List<Integer> totalCountsList = new ArrayList<>();
+        public JdbcUpsert addRows(Stream<? extends List<Object>> rows) {
+            staging.addBatchParameters(rows);
+            return this;
+        }
 
-                for (List<Object> parameters : batchParameters) {
-                    SQLConsumer<PreparedStatement> parameterSetter = readParameters(parameters);
-                    parameterSetter.accept(ps);
-                    ps.addBatch();
-                    count++;
+        public <T> JdbcUpsert addRows(Iterable<? extends T> rows, RowBinder<? super T> binder) {
+            staging.addBatchRows(rows, binder);
+            return this;
+        }
 
-                    if (count % batchSize == 0) {
-                        int[] updateCounts = ps.executeBatch();
-                        for (int uc : updateCounts) {
-                            totalCountsList.add(uc);
-                        }
-                        ps.clearBatch();
-                    }
-                }
+        public <T> JdbcUpsert addRows(Stream<? extends T> rows, RowBinder<? super T> binder) {
+            staging.addBatchRows(rows, binder);
+            return this;
+        }
 
-                if (count % batchSize != 0) {
-                    int[] updateCounts = ps.executeBatch();
-                    for (int uc : updateCounts) {
-                        totalCountsList.add(uc);
+        /**
+         * Em uma única transação: cria uma tabela temporária {@code LIKE} o destino, carrega as linhas com
+         * INSERT multi-linha, confere que as chaves do staging são únicas, executa {@code DELETE ... USING} pelas
+         * chaves e {@code INSERT ... SELECT}, e remove o staging. Qualquer falha (inclusive chave repetida) desfaz tudo.
+         */
+        public void execute() {
+            Objects.requireNonNull(table, "table is null");
+            if (columns.isEmpty()) throw new IllegalArgumentException("Upsert requires columns.");
+            if (keyColumns.isEmpty()) throw new IllegalArgumentException("Upsert requires key columns.");
+            if (!columns.containsAll(keyColumns)) throw new IllegalArgumentException("Key columns must be part of the upsert columns.");
+
+            String stagingTable = "upsert_staging_" + Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+            String columnList = String.join(", ", columns);
+            String keyList = String.join(", ", keyColumns);
+            StringJoiner keys = new StringJoiner(" AND ");
+            for (String key : keyColumns) keys.add(table + "." + key + " = " + stagingTable + "." + key);
+
+            long deadline = QueryWatchdog.deadline(queryTimeout);
+            try (Connection connection = dataSource.getConnection()) {
+                if (isolationLevel != null) connection.setTransactionIsolation(isolationLevel);
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                Throwable failure = null;
+                try (Statement statement = connection.createStatement();
+                     QueryWatchdog.Ticket ticket = QueryWatchdog.watch(statement, deadline)) {
+                    statement.execute("CREATE TEMP TABLE " + stagingTable + " (LIKE " + table + ")");
+                    BatchSummary staged = staging
+                            .query("INSERT INTO " + stagingTable + " (" + columnList + ") VALUES (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")")
+                            .executeOn(connection, deadline);
+                    rejectDuplicateKeys(statement, stagingTable, keyList);
+                    int deleted = statement.executeUpdate("DELETE FROM " + table + " USING " + stagingTable + " WHERE " + keys);
+                    int inserted = statement.executeUpdate("INSERT INTO " + table + " (" + columnList + ") SELECT " + columnList + " FROM " + stagingTable);
+                    statement.execute("DROP TABLE " + stagingTable);
+                    connection.commit();
+                    summary = new UpsertSummary(staged.rows(), deleted, inserted);
+                } catch (SQLException | RuntimeException e) {
+                    failure = e;
+                    try {
+                        connection.rollback();
+                    } catch (SQLException rollbackError) {
+                        e.addSuppressed(rollbackError);
                     }
+                    throw e;
+                } finally {
+                    restoreAutoCommit(connection, autoCommit, failure);
                 }
-
-                int[] totalCounts = totalCountsList.stream().mapToInt(Integer::intValue).toArray();
                 success = true;
-                successVerify(totalCounts);
+                successVerify();
             } catch (SQLException e) {
                 failed(e);
                 failureVerify();
                 throw new RedshiftException(e);
+            } catch (RuntimeException e) {
+                failed(e);
+                failureVerify();
+                throw e;
+            }
+        }
+
+        /**
+         * Sem esta conferência, duas linhas com a mesma chave removeriam a linha do destino uma vez e seriam
+         * inseridas as duas, deixando a chave duplicada.
+         */
+        private void rejectDuplicateKeys(Statement statement, String stagingTable, String keyList) throws SQLException {
+            try (ResultSet duplicate = statement.executeQuery("SELECT " + keyList + ", COUNT(*) FROM " + stagingTable
+                    + " GROUP BY " + keyList + " HAVING COUNT(*) > 1 LIMIT 1")) {
+                if (!duplicate.next()) return;
+                StringJoiner key = new StringJoiner(", ", "(", ")");
+                for (int i = 0; i < keyColumns.size(); i++) key.add(keyColumns.get(i) + "=" + duplicate.getObject(i + 1));
+                throw new RedshiftException("Upsert rows contain duplicate key " + key + " (" + duplicate.getLong(keyColumns.size() + 1)
+                        + " rows); keys must be unique within one upsert");
             }
         }
 
@@ -470,22 +2099,22 @@ public class RedshiftFunctionalJdbc {
             this.success = false;
         }
 
-        public JdbcBatchUpdate onSuccess(SQLConsumer<int[]> successHandler) {
+        public JdbcUpsert onSuccess(SQLConsumer<UpsertSummary> successHandler) {
             this.successHandler = Objects.requireNonNull(successHandler, "successHandler is null");
             return this;
         }
 
-        private void successVerify(int[] updateCounts) {
+        private void successVerify() {
             if (success && successHandler != null) {
                 try {
-                    successHandler.accept(updateCounts);
+                    successHandler.accept(summary);
                 } catch (SQLException e) {
                     log.error("Error during success handler execution", e);
                 }
             }
         }
 
-        public JdbcBatchUpdate onFailure(SQLConsumer<Throwable> failureHandler) {
+        public JdbcUpsert onFailure(SQLConsumer<Throwable> failureHandler) {
             this.failureHandler = Objects.requireNonNull(failureHandler, "failureHandler is null");
             return this;
         }
@@ -504,6 +2133,7 @@ public class RedshiftFunctionalJdbc {
     @Slf4j
     public static class JdbcUpdate {
         private final DataSource dataSource;
+        private Duration queryTimeout;
         private String query;
         private SQLConsumer<PreparedStatement> parameterSetter;
         private SQLConsumer<Integer> successHandler;
@@ -512,9 +2142,28 @@ public class RedshiftFunctionalJdbc {
         private Throwable error;
         private int rowsInserted;
         private Integer isolationLevel;
+        private final Supplier<WriteCoalescer> defaultCoalescer;
+        private WriteCoalescer coalescer;
+        private Supplier<AsyncExecutor> asyncExecutor = AsyncExecutor::shared;
+        private Telemetry telemetry = Telemetry.DISABLED;
+        private Telemetry.Execution execution = Telemetry.DISABLED.start(null, null);
 
-        JdbcUpdate(DataSource dataSource) {
+        JdbcUpdate(DataSource dataSource, Supplier<WriteCoalescer> defaultCoalescer) {
             this.dataSource = dataSource;
+            this.defaultCoalescer = defaultCoalescer;
+        }
+
+        /**
+         * Prazo da instrução; ao terminar, ela é cancelada no servidor.
+         */
+        public JdbcUpdate queryTimeout(Duration queryTimeout) {
+            this.queryTimeout = validateTimeout(queryTimeout);
+            return this;
+        }
+
+        JdbcUpdate telemetry(Telemetry telemetry) {
+            this.telemetry = telemetry;
+            return this;
         }
 
         public JdbcUpdate query(String query) {
@@ -539,18 +2188,66 @@ public class RedshiftFunctionalJdbc {
             return this;
         }
 
+        public JdbcUpdate asyncExecutor(AsyncExecutor asyncExecutor) {
+            Objects.requireNonNull(asyncExecutor, "asyncExecutor is null");
+            this.asyncExecutor = () -> asyncExecutor;
+            return this;
+        }
+
+        /**
+         * {@link #execute()} em uma virtual thread do {@link AsyncExecutor}, aguardando um slot livre; o future
+         * recebe o update count.
+         */
+        public CompletableFuture<Integer> executeAsync() {
+            JdbcSession.rejectInSession(dataSource, "executeAsync");
+            return asyncExecutor.get().submit(() -> {
+                execute();
+                return rowsInserted;
+            });
+        }
+
+        public JdbcUpdate coalescer(WriteCoalescer coalescer) {
+            this.coalescer = Objects.requireNonNull(coalescer, "coalescer is null");
+            return this;
+        }
+
+        /**
+         * Envia a escrita ao {@link WriteCoalescer} (o padrão de {@code writeCoalescer()} ou o definido em
+         * {@link #coalescer(WriteCoalescer)}), que a agrupa com outras escritas da mesma instrução em um único
+         * lote e commit. O future recebe o update count desta linha; {@code onSuccess} / {@code onFailure}
+         * rodam na thread do coalescer.
+         */
+        public CompletableFuture<Integer> executeCoalesced() {
+            WriteCoalescer target = coalescer != null ? coalescer : defaultCoalescer.get();
+            return target.submit(query, isolationLevel, parameterSetter).whenComplete((rows, t) -> {
+                if (t == null) {
+                    rowsInserted = rows;
+                    success = true;
+                    successVerify();
+                } else {
+                    failed(t);
+                    failureVerify();
+                }
+            });
+        }
+
         public void execute() {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(query)) {
+            execution = telemetry.start("JdbcUpdate", query);
+            try (Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, query);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
                 if(parameterSetter != null) parameterSetter.accept(ps);
                 if (isolationLevel != null) connection.setTransactionIsolation(isolationLevel);
-                rowsInserted = ps.executeUpdate();
+                rowsInserted = execution.executeUpdate(ps);
                 success = true;
+                execution.completed();
                 successVerify();
             } catch (SQLException e) {
                 failed(e);
                 failureVerify();
                 throw new RedshiftException(e);
+            } finally {
+                execution.close();
             }
         }
 
@@ -567,10 +2264,13 @@ public class RedshiftFunctionalJdbc {
 
         private void successVerify() {
             if (success && successHandler != null) {
+                long start = execution.handlerStart();
                 try {
                     successHandler.accept(rowsInserted);
                 } catch (SQLException e) {
                     log.error("Error during success handler execution", e);
+                } finally {
+                    execution.handled(start);
                 }
             }
 
@@ -584,10 +2284,13 @@ public class RedshiftFunctionalJdbc {
 
         private void failureVerify(){
             if (!success && failureHandler != null) {
+                long start = execution.handlerStart();
                 try {
                     failureHandler.accept(error);
                 } catch (SQLException e) {
                     log.error("Error during failure handler execution", e);
+                } finally {
+                    execution.handled(start);
                 }
             }
         }
@@ -597,39 +2300,54 @@ public class RedshiftFunctionalJdbc {
     @Slf4j
     public static class JdbcUpdateMv {
         private final DataSource dataSource;
+        private Duration queryTimeout;
         private String query;
         private SQLConsumer<Integer> successHandler;
         SQLConsumer<Throwable> failureHandler;
         private boolean success;
         private Throwable error;
         private int rowsInserted;
+        private Telemetry telemetry = Telemetry.DISABLED;
+        private Telemetry.Execution execution = Telemetry.DISABLED.start(null, null);
 
         JdbcUpdateMv(DataSource dataSource) {
             this.dataSource = dataSource;
         }
 
-        public JdbcUpdateMv query(String query) {
-            if(!isValid(query)) throw new RedshiftException(query + " is not valid");
-            this.query = query;
+        /**
+         * Prazo da instrução; ao terminar, ela é cancelada no servidor.
+         */
+        public JdbcUpdateMv queryTimeout(Duration queryTimeout) {
+            this.queryTimeout = validateTimeout(queryTimeout);
             return this;
         }
 
-        private static boolean isValid(String sql) {
-            if (sql == null || sql.trim().isEmpty()) return false;
-            String trimmedSql = sql.trim();
-            return SQL_UPDATE_MV_PATTERN.matcher(trimmedSql).matches();
+        JdbcUpdateMv telemetry(Telemetry telemetry) {
+            this.telemetry = telemetry;
+            return this;
+        }
+
+        public JdbcUpdateMv query(String query) {
+            if(!SqlValidator.isValidMaterializedView(query)) throw new RedshiftException(query + " is not valid");
+            this.query = query;
+            return this;
         }
 
         public void execute() {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement ps = connection.prepareStatement(query)) {
-                rowsInserted = ps.executeUpdate();
+            execution = telemetry.start("JdbcUpdateMv", query);
+            try (Connection connection = execution.connection(dataSource);
+                 PreparedStatement ps = execution.prepare(connection, query);
+                 QueryWatchdog.Ticket ticket = QueryWatchdog.watch(ps, QueryWatchdog.deadline(queryTimeout))) {
+                rowsInserted = execution.executeUpdate(ps);
                 success = true;
+                execution.completed();
                 successVerify();
             } catch (SQLException e) {
                 failed(e);
                 failureVerify();
                 throw new RedshiftException(e);
+            } finally {
+                execution.close();
             }
         }
 
@@ -646,10 +2364,13 @@ public class RedshiftFunctionalJdbc {
 
         private void successVerify() {
             if (success && successHandler != null) {
+                long start = execution.handlerStart();
                 try {
                     successHandler.accept(rowsInserted);
                 } catch (SQLException e) {
                     log.error("Error during success handler execution", e);
+                } finally {
+                    execution.handled(start);
                 }
             }
 
@@ -663,41 +2384,406 @@ public class RedshiftFunctionalJdbc {
 
         private void failureVerify(){
             if (!success && failureHandler != null) {
+                long start = execution.handlerStart();
                 try {
                     failureHandler.accept(error);
                 } catch (SQLException e) {
                     log.error("Error during failure handler execution", e);
+                } finally {
+                    execution.handled(start);
+                }
+            }
+        }
+    }
+
+    @Slf4j
+    private static final class ResultSetCursor<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+        private final SQLFunction<ResultSet, T> mapper;
+        private final Telemetry.Execution execution;
+        private final boolean sharedExecution;
+        private final boolean session;
+        private Connection connection;
+        private volatile PreparedStatement ps;
+        private ResultSet rs;
+        private boolean autoCommit = true;
+        private volatile QueryWatchdog.Ticket ticket;
+        private boolean finished;
+        private volatile boolean closed;
+
+        ResultSetCursor(DataSource dataSource, String query, SQLConsumer<PreparedStatement> parameterSetter,
+                        int fetchSize, SQLFunction<ResultSet, T> mapper, long deadline,
+                        Telemetry.Execution execution, boolean sharedExecution) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.mapper = mapper;
+            this.execution = execution;
+            this.sharedExecution = sharedExecution;
+            this.session = JdbcSession.isSession(dataSource);
+            try {
+                connection = execution.connection(dataSource);
+                if (!session) {
+                    autoCommit = connection.getAutoCommit();
+                    connection.setAutoCommit(false);
+                }
+                ps = execution.prepareCursor(connection, query);
+                ps.setFetchSize(fetchSize);
+                if (parameterSetter != null) parameterSetter.accept(ps);
+                ticket = QueryWatchdog.watch(ps, deadline);
+                rs = execution.executeQuery(ps);
+            } catch (SQLException e) {
+                finished = true;
+                close();
+                throw new RedshiftException(e);
+            }
+        }
+
+        Stream<T> stream() {
+            return StreamSupport.stream(this, false).onClose(this::close);
+        }
+
+        /**
+         * Interrompe uma execução ou busca em andamento a partir de outra thread.
+         */
+        void cancel() {
+            QueryWatchdog.Ticket watched = ticket;
+            if (watched != null && !closed) watched.cancel(QueryWatchdog.Reason.CLOSED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) return false;
+            try {
+                if (!execution.next(rs)) {
+                    finished = true;
+                    if (!sharedExecution) execution.completed();
+                    close();
+                    return false;
+                }
+                action.accept(execution.map(mapper, rs));
+                return true;
+            } catch (SQLException e) {
+                finished = true;
+                close();
+                throw new RedshiftException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            QueryWatchdog.Ticket watched = ticket;
+            if (watched != null) {
+                if (!finished) watched.cancel(QueryWatchdog.Reason.CLOSED);
+                watched.close();
+            }
+            closed = true;
+            try (Connection c = connection; PreparedStatement p = ps; ResultSet r = rs) {
+                if (c != null && !session && !c.getAutoCommit()) {
+                    SQLException failure = null;
+                    try {
+                        if (finished) c.commit();
+                        else c.rollback();
+                    } catch (SQLException e) {
+                        failure = e;
+                        throw e;
+                    } finally {
+                        restoreAutoCommit(c, autoCommit, failure);
+                    }
+                }
+            } catch (SQLException e) {
+                log.error("Error while closing the result set cursor", e);
+            }
+            if (!sharedExecution) execution.close();
+        }
+    }
+
+    /**
+     * Stream das faixas de uma consulta particionada: cada faixa roda em uma virtual thread com seu próprio
+     * cursor e mapeia as linhas em blocos, entregues por filas limitadas. Sem ordem, os blocos chegam conforme
+     * ficam prontos; com ordem, as faixas são entregues em sequência. Fechar o stream cancela as instruções.
+     */
+    @Slf4j
+    private static final class PartitionedQuery<T> extends Spliterators.AbstractSpliterator<T> {
+        private static final int BLOCK_ROWS = 256;
+        private static final int QUEUE_BLOCKS = 4;
+        private static final List<Object> DONE = List.of();
+        private static final ExecutorService EXECUTOR =
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("redshift-partition-", 0).factory());
+
+        private final DataSource dataSource;
+        private final List<Part> parts;
+        private final int fetchSize;
+        private final SQLFunction<ResultSet, T> mapper;
+        private final boolean ordered;
+        private final long deadline;
+        private final Telemetry.Execution execution;
+        private final BlockingQueue<List<Object>> merged;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean closed;
+        private List<Object> block = List.of();
+        private int index;
+        private int current;
+        private int finished;
+
+        record Part(String sql, SQLConsumer<PreparedStatement> parameters, BlockingQueue<List<Object>> queue,
+                    AtomicReference<ResultSetCursor<?>> cursor, AtomicReference<Future<?>> task) {
+
+            Part(String sql, SQLConsumer<PreparedStatement> parameters) {
+                this(sql, parameters, new ArrayBlockingQueue<>(QUEUE_BLOCKS), new AtomicReference<>(), new AtomicReference<>());
+            }
+        }
+
+        PartitionedQuery(DataSource dataSource, List<Part> parts, int fetchSize, SQLFunction<ResultSet, T> mapper, boolean ordered,
+                         long deadline, Telemetry.Execution execution) {
+            super(Long.MAX_VALUE, ordered ? Spliterator.ORDERED : 0);
+            this.dataSource = dataSource;
+            this.parts = parts;
+            this.fetchSize = fetchSize;
+            this.mapper = mapper;
+            this.ordered = ordered;
+            this.deadline = deadline;
+            this.execution = execution;
+            this.merged = ordered ? null : new ArrayBlockingQueue<>(parts.size() * QUEUE_BLOCKS);
+        }
+
+        Stream<T> stream() {
+            for (Part part : parts) part.task().set(EXECUTOR.submit(() -> run(part)));
+            return StreamSupport.stream(this, false).onClose(this::close);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (index >= block.size()) {
+                List<Object> next = next();
+                if (next == null) return false;
+                block = next;
+                index = 0;
+            }
+            action.accept((T) block.get(index++));
+            return true;
+        }
+
+        private List<Object> next() {
+            try {
+                while (ordered ? current < parts.size() : finished < parts.size()) {
+                    List<Object> next = (ordered ? parts.get(current).queue() : merged).poll(100, TimeUnit.MILLISECONDS);
+                    Throwable t = failure.get();
+                    if (t != null) {
+                        close();
+                        throw new RedshiftException("Partitioned query failed", t);
+                    }
+                    if (next == DONE) {
+                        if (ordered) current++;
+                        else finished++;
+                    } else if (next != null) {
+                        return next;
+                    }
+                }
+                execution.completed();
+                execution.close();
+                return null;
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new RedshiftException("Partitioned query interrupted", e);
+            }
+        }
+
+        private void run(Part part) {
+            BlockingQueue<List<Object>> queue = ordered ? part.queue() : merged;
+            ResultSetCursor<T> cursor = null;
+            try {
+                if (closed) return;
+                cursor = new ResultSetCursor<>(dataSource, part.sql(), part.parameters(), fetchSize, mapper, deadline, execution, true);
+                part.cursor().set(cursor);
+                if (closed) return;
+                List<Object> rows = new ArrayList<>(BLOCK_ROWS);
+                while (!closed && cursor.tryAdvance(rows::add)) {
+                    if (rows.size() == BLOCK_ROWS) {
+                        if (!put(queue, rows)) return;
+                        rows = new ArrayList<>(BLOCK_ROWS);
+                    }
+                }
+                if (!rows.isEmpty() && !put(queue, rows)) return;
+            } catch (RuntimeException | Error e) {
+                if (!closed) failure.compareAndSet(null, e);
+            } finally {
+                if (cursor != null) cursor.close();
+                put(queue, DONE);
+            }
+        }
+
+        private boolean put(BlockingQueue<List<Object>> queue, List<Object> rows) {
+            try {
+                while (!queue.offer(rows, 100, TimeUnit.MILLISECONDS)) {
+                    if (closed) return false;
                 }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void close() {
+            if (closed) return;
+            closed = true;
+            for (Part part : parts) {
+                ResultSetCursor<?> cursor = part.cursor().get();
+                if (cursor != null) cursor.cancel();
+                Future<?> task = part.task().get();
+                if (task != null) task.cancel(true);
             }
+            execution.close();
         }
     }
 
-    private static Map<String, Object> resultSetToMap(ResultSet rs) throws SQLException {
-        Map<String, Object> map = new LinkedHashMap<>();
-        for(int i = 0; i < rs.getMetaData().getColumnCount(); i++){
-            String columnName = rs.getMetaData().getColumnName(i + 1);
-            Object value = rs.getObject(columnName);
-            map.put(columnName, value);
+    /**
+     * Publisher de um cursor: cada assinatura abre o seu cursor na primeira demanda, em uma virtual thread,
+     * e só avança o {@code ResultSet} pelas linhas pedidas (o driver busca {@code fetchSize} linhas por ida ao
+     * banco). Cancelar a assinatura cancela a instrução e devolve a conexão.
+     */
+    private static final class CursorPublisher<T> implements Flow.Publisher<T> {
+        private static final Executor EXECUTOR =
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("redshift-publish-", 0).factory());
+
+        private final Supplier<ResultSetCursor<T>> cursors;
+
+        CursorPublisher(Supplier<ResultSetCursor<T>> cursors) {
+            this.cursors = cursors;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            Objects.requireNonNull(subscriber, "subscriber is null");
+            subscriber.onSubscribe(new CursorSubscription<>(subscriber, cursors));
+        }
+
+        private static final class CursorSubscription<T> implements Flow.Subscription {
+            private final Flow.Subscriber<? super T> subscriber;
+            private final Supplier<ResultSetCursor<T>> cursors;
+            private final AtomicLong demand = new AtomicLong();
+            private final AtomicInteger wip = new AtomicInteger();
+            private volatile ResultSetCursor<T> cursor;
+            private volatile boolean cancelled;
+            private volatile Throwable invalidRequest;
+            private boolean done;
+
+            CursorSubscription(Flow.Subscriber<? super T> subscriber, Supplier<ResultSetCursor<T>> cursors) {
+                this.subscriber = subscriber;
+                this.cursors = cursors;
+            }
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) invalidRequest = new IllegalArgumentException("Requested " + n + " rows, demand must be positive");
+                else demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+                schedule();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                ResultSetCursor<T> running = cursor;
+                if (running != null) running.cancel();
+                schedule();
+            }
+
+            private void schedule() {
+                if (wip.getAndIncrement() == 0) EXECUTOR.execute(this::drain);
+            }
+
+            private void drain() {
+                int missed = 1;
+                do {
+                    if (!done) {
+                        try {
+                            emit();
+                        } catch (Throwable t) {
+                            finish();
+                            if (!cancelled) subscriber.onError(t);
+                        }
+                    }
+                    missed = wip.addAndGet(-missed);
+                } while (missed != 0);
+            }
+
+            private void emit() {
+                if (cancelled) {
+                    finish();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    finish();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted < requested && !cancelled) {
+                    if (cursor == null) cursor = cursors.get();
+                    if (!cursor.tryAdvance(subscriber::onNext)) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    emitted++;
+                }
+                if (requested != Long.MAX_VALUE) demand.addAndGet(-emitted);
+                if (cancelled) finish();
+            }
+
+            private void finish() {
+                done = true;
+                ResultSetCursor<T> opened = cursor;
+                if (opened != null) opened.close();
+            }
         }
-        return map;
+    }
+
+    /**
+     * Mapeador de linhas usado pelos métodos que recebem {@code Class<T>} (plano compilado em cache por formato
+     * de consulta e classe), para compor com os métodos que recebem {@link SQLFunction}. Não é thread-safe:
+     * obtenha um por execução.
+     */
+    public static <T> SQLFunction<ResultSet, T> rowMapper(Class<T> clazz) {
+        return new ClassRowMapper<>(clazz, objectMapper);
     }
 
     public static void validationDMLQuery(String query) {
-        if(!isValidDML(query) || !isCompatibleDMLRedshift(query)) {
+        if(!SqlValidator.isValidDml(query)) {
             throw new RedshiftException(query + " is not valid");
         }
     }
 
-    private static boolean isValidDML(String sql) {
-        if (sql == null || sql.trim().isEmpty()) return false;
-        String trimmedSql = sql.trim();
-        return SQL_DML_PATTERN.matcher(trimmedSql).matches();
+    private static String validateTable(String table) {
+        if (table == null || !TABLE.matcher(table).matches()) throw new IllegalArgumentException("Invalid table name: " + table);
+        return table;
+    }
+
+    private static List<String> validateColumns(String... columns) {
+        for (String column : columns) {
+            if (column == null || !IDENTIFIER.matcher(column).matches()) throw new IllegalArgumentException("Invalid column name: " + column);
+        }
+        return List.of(columns);
+    }
+
+    /**
+     * Restaura o auto-commit ao fim de uma transação; uma falha aqui não substitui a falha da transação
+     * ({@code failure}), e entra nela como suprimida.
+     */
+    static void restoreAutoCommit(Connection connection, boolean autoCommit, Throwable failure) {
+        try {
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            if (failure != null) failure.addSuppressed(e);
+            else log.error("Error while restoring auto-commit", e);
+        }
     }
 
-    private static boolean isCompatibleDMLRedshift(String sql) {
-        for (String pattern : UNSUPPORTED_PATTERNS)
-            if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(sql).find()) return false;
-        return true;
+    private static Duration validateTimeout(Duration timeout) {
+        if (timeout != null && timeout.isNegative()) throw new IllegalArgumentException("Query timeout cannot be negative.");
+        return timeout;
     }
 
     private static void validateIsolationLevel(Integer isolationLevel) {
@@ -707,27 +2793,8 @@ public class RedshiftFunctionalJdbc {
     }
 
     public static SQLConsumer<PreparedStatement> readParameters(List<Object> attributes) {
-        return ps -> {
-            for (int i = 0; i < attributes.size(); i++) {
-                Object attribute = attributes.get(i);
-
-                switch (attribute) {
-                    case null -> ps.setNull(i + 1, Types.NULL);
-                    case String s -> ps.setString(i + 1, s);
-                    case Integer integer -> ps.setInt(i + 1, integer);
-                    case Long l -> ps.setLong(i + 1, l);
-                    case Double v -> ps.setDouble(i + 1, v);
-                    case Float v -> ps.setFloat(i + 1, v);
-                    case Boolean b -> ps.setBoolean(i + 1, b);
-                    case Timestamp timestamp -> ps.setTimestamp(i + 1, timestamp);
-                    case java.sql.Date date -> ps.setDate(i + 1, date);
-                    case java.util.Date date -> ps.setTimestamp(i + 1, new Timestamp(date.getTime()));
-                    case java.time.LocalDateTime localDateTime -> ps.setTimestamp(i + 1, java.sql.Timestamp.valueOf(localDateTime));
-                    default ->
-                            throw new IllegalArgumentException("Unsupported parameter type: " + attribute.getClass());
-                }
-            }
-        };
+        ParameterBinder binder = ParameterBinder.of(attributes);
+        return ps -> binder.bind(ps, attributes);
     }
 
     @FunctionalInterface
@@ -745,5 +2812,10 @@ public class RedshiftFunctionalJdbc {
         T get() throws SQLException;
     }
 
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(ParameterRow row, T value) throws SQLException;
+    }
+
 
 }
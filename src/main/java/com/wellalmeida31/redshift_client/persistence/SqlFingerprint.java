@@ -0,0 +1,110 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Impressão digital de uma instrução: o SQL normalizado (literais viram {@code ?}, sem comentários, espaços
+ * repetidos e diferença de caixa; listas {@code IN (?, ?, ...)} e tuplas de {@code VALUES} repetidas
+ * colapsadas) e um id de 16 caracteres hexadecimais (FNV-1a 64 do texto normalizado).
+ *
+ * <p>Instruções que só diferem nos valores têm o mesmo id, então ele serve de tag de baixa cardinalidade.</p>
+ *
+ * @param id hash do SQL normalizado
+ * @param normalized SQL normalizado
+ */
+public record SqlFingerprint(String id, String normalized) {
+
+    private static final int MAX_CACHED = 4096;
+    private static final Map<String, SqlFingerprint> CACHE = new ConcurrentHashMap<>();
+    private static final String OPERATORS = "<>=!|:+-*/%&^~";
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?:, \\?)*\\)");
+    private static final Pattern REPEATED_TUPLES = Pattern.compile("(\\((?:\\?|\\?\\+)(?:, (?:\\?|\\?\\+))*\\))(?:, \\((?:\\?|\\?\\+)(?:, (?:\\?|\\?\\+))*\\))+");
+
+    public static SqlFingerprint of(String sql) {
+        if (sql == null) return new SqlFingerprint("0000000000000000", "");
+        SqlFingerprint cached = CACHE.get(sql);
+        if (cached != null) return cached;
+        String normalized = normalize(sql);
+        SqlFingerprint fingerprint = new SqlFingerprint(hash(normalized), normalized);
+        if (CACHE.size() < MAX_CACHED) CACHE.put(sql, fingerprint);
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        int n = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(n, 1024));
+        int i = 0;
+        while (i < n) {
+            char c = sql.charAt(i);
+            char next = i + 1 < n ? sql.charAt(i + 1) : 0;
+            if (Character.isWhitespace(c) || c == ';') {
+                i++;
+            } else if (c == '-' && next == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? n : end;
+            } else if (c == '/' && next == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? n : end + 2;
+            } else if (c == '\'') {
+                i = SqlValidator.skipQuoted(sql, i, '\'', true);
+                token(out, "?");
+            } else if (c == '"') {
+                int end = SqlValidator.skipQuoted(sql, i, '"', false);
+                token(out, sql.substring(i, end));
+                i = end;
+            } else if (c == '$' && SqlValidator.dollarTagEnd(sql, i) > 0) {
+                int tagEnd = SqlValidator.dollarTagEnd(sql, i);
+                int end = sql.indexOf(sql.substring(i, tagEnd), tagEnd);
+                i = end < 0 ? n : end + (tagEnd - i);
+                token(out, "?");
+            } else if (Character.isLetter(c) || c == '_') {
+                int j = i + 1;
+                while (j < n && (Character.isLetterOrDigit(sql.charAt(j)) || sql.charAt(j) == '_' || sql.charAt(j) == '$')) j++;
+                token(out, sql.substring(i, j).toLowerCase(Locale.ROOT));
+                i = j;
+            } else if (Character.isDigit(c) || (c == '.' && Character.isDigit(next))) {
+                int j = i + 1;
+                while (j < n && (Character.isLetterOrDigit(sql.charAt(j)) || sql.charAt(j) == '.')) j++;
+                token(out, "?");
+                i = j;
+            } else if (OPERATORS.indexOf(c) >= 0) {
+                int j = i + 1;
+                while (j < n && OPERATORS.indexOf(sql.charAt(j)) >= 0
+                        && !(sql.charAt(j) == '-' && j + 1 < n && sql.charAt(j + 1) == '-')) j++;
+                token(out, sql.substring(i, j));
+                i = j;
+            } else {
+                token(out, String.valueOf(c));
+                i++;
+            }
+        }
+
+        String normalized = PARAMETER_LIST.matcher(out).replaceAll("(?+)");
+        return REPEATED_TUPLES.matcher(normalized).replaceAll("$1, ...");
+    }
+
+    /**
+     * Tokens separados por um espaço, exceto junto a parênteses, vírgulas e pontos.
+     */
+    private static void token(StringBuilder out, String token) {
+        if (!out.isEmpty()) {
+            char last = out.charAt(out.length() - 1);
+            char first = token.charAt(0);
+            if (last != '(' && last != '.' && first != ')' && first != ',' && first != '.') out.append(' ');
+        }
+        out.append(token);
+    }
+
+    private static String hash(String normalized) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        String hex = Long.toHexString(hash);
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+}
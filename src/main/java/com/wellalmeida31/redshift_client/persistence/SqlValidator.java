@@ -0,0 +1,268 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Validação das instruções SQL aceitas pelos construtores, feita por um tokenizador Redshift
+ * escrito à mão em uma única passada linear.
+ *
+ * <p>Literais de texto, identificadores entre aspas, dollar quotes e comentários são ignorados,
+ * então palavras-chave dentro deles não geram falsos positivos. As construções proibidas são
+ * sequências de palavras-chave: palavras separadas por espaço devem ser consecutivas e {@code ...}
+ * indica qualquer trecho na mesma linha (mesma semântica dos antigos {@code \bA\b.*\bB\b}).</p>
+ *
+ * <p>Os veredictos ficam em um cache limitado, indexado pelo texto SQL. Cada validação emite o evento JFR
+ * {@link JdbcEvents.ValidationPerformed} quando ele está ativo.</p>
+ */
+final class SqlValidator {
+
+    private static final int MAX_CACHED_VERDICTS = 2048;
+
+    private static final Set<String> DQL_LEADING = Set.of("SELECT");
+    private static final Set<String> DML_LEADING = Set.of("SELECT", "INSERT", "UPDATE", "DELETE");
+    private static final Set<String> MV_LEADING = Set.of("REFRESH", "DROP", "CREATE");
+
+    private static final Rule[] DQL_RULES = Rule.of(
+            "WITH ... RECURSIVE",
+            "FULL OUTER JOIN ... ON",
+            "FETCH FIRST ... ROWS ONLY",
+            "OFFSET ... ROWS",
+            "WINDOW",
+            "LATERAL",
+            "QUALIFY"
+    );
+    private static final Rule[] DML_RULES = Rule.of(
+            "MERGE",
+            "USING ... ON",
+            "ON CONFLICT",
+            "RETURNING",
+            "ARRAY",
+            "GEOMETRY",
+            "VACUUM ... DELETE"
+    );
+    private static final Rule[] NO_RULES = new Rule[0];
+
+    private static final Map<String, Boolean> DQL_VERDICTS = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> DML_VERDICTS = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> MV_VERDICTS = new ConcurrentHashMap<>();
+
+    private SqlValidator() {}
+
+    /** SELECT ... FROM ... sem construções não suportadas pelo Redshift. */
+    static boolean isValidQuery(String sql) {
+        return cached("query", DQL_VERDICTS, sql, s -> validate(s, DQL_LEADING, true, DQL_RULES));
+    }
+
+    /** SELECT / INSERT / UPDATE / DELETE sem construções não suportadas pelo Redshift. */
+    static boolean isValidDml(String sql) {
+        return cached("dml", DML_VERDICTS, sql, s -> validate(s, DML_LEADING, false, DML_RULES));
+    }
+
+    /** REFRESH / DROP / CREATE para materialized views. */
+    static boolean isValidMaterializedView(String sql) {
+        return cached("materialized view", MV_VERDICTS, sql, s -> validate(s, MV_LEADING, false, NO_RULES));
+    }
+
+    /** Quantidade de marcadores {@code ?} fora de literais, identificadores entre aspas, dollar quotes e comentários. */
+    static int parameterCount(String sql) {
+        int count = 0;
+        int n = sql.length();
+        int i = 0;
+
+        while (i < n) {
+            char c = sql.charAt(i);
+            char next = i + 1 < n ? sql.charAt(i + 1) : 0;
+
+            if (c == '-' && next == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? n : end;
+            } else if (c == '/' && next == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? n : end + 2;
+            } else if (c == '\'') {
+                i = skipQuoted(sql, i, '\'', true);
+            } else if (c == '"') {
+                i = skipQuoted(sql, i, '"', false);
+            } else if (c == '$' && dollarTagEnd(sql, i) > 0) {
+                int tagEnd = dollarTagEnd(sql, i);
+                int end = sql.indexOf(sql.substring(i, tagEnd), tagEnd);
+                i = end < 0 ? n : end + (tagEnd - i);
+            } else if (Character.isLetterOrDigit(c) || c == '_') {
+                i++;
+                while (i < n && isWordPart(sql.charAt(i))) i++;
+            } else {
+                if (c == '?') count++;
+                i++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean cached(String kind, Map<String, Boolean> verdicts, String sql, Predicate<String> validator) {
+        if (sql == null) return false;
+        JdbcEvents.ValidationPerformed event = new JdbcEvents.ValidationPerformed();
+        event.begin();
+        Boolean verdict = verdicts.get(sql);
+        boolean hit = verdict != null;
+        if (!hit) {
+            verdict = validator.test(sql);
+            if (verdicts.size() >= MAX_CACHED_VERDICTS) verdicts.clear();
+            verdicts.put(sql, verdict);
+        }
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.fingerprint = SqlFingerprint.of(sql).id();
+            event.valid = verdict;
+            event.cached = hit;
+            event.length = sql.length();
+            event.commit();
+        }
+        return verdict;
+    }
+
+    private static boolean validate(String sql, Set<String> leading, boolean requiresFrom, Rule[] rules) {
+        Matcher matcher = new Matcher(rules);
+        int tokens = 0;
+        int fromIndex = -1;
+        int n = sql.length();
+        int i = 0;
+
+        while (i < n) {
+            char c = sql.charAt(i);
+            char next = i + 1 < n ? sql.charAt(i + 1) : 0;
+            String word = null;
+
+            if (c == '\n') {
+                matcher.newLine();
+                i++;
+                continue;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            } else if (c == '-' && next == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? n : end;
+                continue;
+            } else if (c == '/' && next == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                end = end < 0 ? n : end + 2;
+                int newLine = sql.indexOf('\n', i);
+                if (newLine >= 0 && newLine < end) matcher.newLine();
+                i = end;
+                continue;
+            } else if (c == '\'') {
+                i = skipQuoted(sql, i, '\'', true);
+            } else if (c == '"') {
+                i = skipQuoted(sql, i, '"', false);
+            } else if (c == '$' && dollarTagEnd(sql, i) > 0) {
+                int tagEnd = dollarTagEnd(sql, i);
+                int end = sql.indexOf(sql.substring(i, tagEnd), tagEnd);
+                i = end < 0 ? n : end + (tagEnd - i);
+            } else if (Character.isLetter(c) || c == '_') {
+                int j = i + 1;
+                while (j < n && isWordPart(sql.charAt(j))) j++;
+                word = sql.substring(i, j).toUpperCase(Locale.ROOT);
+                i = j;
+            } else if (Character.isDigit(c)) {
+                int j = i + 1;
+                while (j < n && (isWordPart(sql.charAt(j)) || sql.charAt(j) == '.')) j++;
+                i = j;
+            } else {
+                i++;
+            }
+
+            if (tokens == 0 && (word == null || !leading.contains(word))) return false;
+            if (requiresFrom && fromIndex < 0 && tokens >= 2 && "FROM".equals(word)) fromIndex = tokens;
+            if (!matcher.accept(word)) return false;
+            tokens++;
+        }
+
+        if (tokens == 0) return false;
+        return !requiresFrom || (fromIndex > 0 && fromIndex < tokens - 1);
+    }
+
+    static int skipQuoted(String sql, int start, char quote, boolean backslashEscapes) {
+        int n = sql.length();
+        int i = start + 1;
+        while (i < n) {
+            char c = sql.charAt(i);
+            if (backslashEscapes && c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < n && sql.charAt(i + 1) == quote) i += 2;
+                else return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return n;
+    }
+
+    static int dollarTagEnd(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length() && (Character.isLetter(sql.charAt(i)) || sql.charAt(i) == '_')) i++;
+        return i < sql.length() && sql.charAt(i) == '$' ? i + 1 : -1;
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private record Rule(String[][] segments) {
+        static Rule[] of(String... definitions) {
+            Rule[] rules = new Rule[definitions.length];
+            for (int r = 0; r < definitions.length; r++) {
+                String[] parts = definitions[r].split(" \\.\\.\\. ");
+                String[][] segments = new String[parts.length][];
+                for (int s = 0; s < parts.length; s++) segments[s] = parts[s].split(" ");
+                rules[r] = new Rule(segments);
+            }
+            return rules;
+        }
+    }
+
+    /**
+     * Avança todas as regras a cada token. {@code null} representa um token que não é palavra-chave
+     * (literal, número, pontuação), que interrompe sequências de palavras consecutivas.
+     */
+    private static final class Matcher {
+        private final Rule[] rules;
+        private final int[] segment;
+        private final int[] position;
+
+        Matcher(Rule[] rules) {
+            this.rules = rules;
+            this.segment = new int[rules.length];
+            this.position = new int[rules.length];
+        }
+
+        boolean accept(String word) {
+            for (int r = 0; r < rules.length; r++) {
+                String[][] segments = rules[r].segments();
+                String[] current = segments[segment[r]];
+                if (current[position[r]].equals(word)) {
+                    if (++position[r] == current.length) {
+                        position[r] = 0;
+                        if (++segment[r] == segments.length) return false;
+                    }
+                } else if (position[r] > 0) {
+                    position[r] = current[0].equals(word) ? 1 : 0;
+                }
+            }
+            return true;
+        }
+
+        void newLine() {
+            for (int r = 0; r < rules.length; r++) {
+                if (segment[r] > 0) {
+                    segment[r] = 0;
+                    position[r] = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Destino das partes geradas pelo {@code JdbcBulkLoad} antes do {@code COPY}.
+ *
+ * <p>Cada carga recebe um {@code loadId} próprio; as partes são gravadas em paralelo (uma por slice),
+ * então {@link #create(String, String)} deve aceitar chamadas concorrentes. Uma implementação para S3
+ * abre um upload (multipart) em {@code create} e devolve {@code s3://bucket/prefixo/<loadId>/} em
+ * {@link #location(String)}.</p>
+ */
+public interface Stager {
+
+    /**
+     * Abre a saída de uma parte da carga; o stream é fechado pelo chamador.
+     */
+    OutputStream create(String loadId, String partName) throws IOException;
+
+    /**
+     * Prefixo lido pelo {@code COPY ... FROM}, com as partes da carga logo abaixo dele.
+     */
+    String location(String loadId);
+
+    /**
+     * Remove as partes da carga depois do {@code COPY}.
+     */
+    default void cleanup(String loadId) throws IOException {
+    }
+}
@@ -0,0 +1,289 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.wellalmeida31.redshift_client.exception.RedshiftException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Grava as linhas de um {@code JdbcBulkLoad} em partes GZIP no {@link Stager}.
+ *
+ * <p>A thread chamadora lê as fontes e distribui blocos de linhas entre os slices; cada slice
+ * converte e comprime em sua própria virtual thread e troca de parte ao passar de {@code maxPartBytes}
+ * comprimidos. As filas por slice são limitadas, então a leitura acompanha a gravação.</p>
+ */
+@Slf4j
+final class StagingWriter {
+
+    private static final int BLOCK_ROWS = 1024;
+    private static final int QUEUE_BLOCKS = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Block END = new Block(null);
+
+    private final Stager stager;
+    private final String loadId;
+    private final BulkFormat format;
+    private final List<String> columns;
+    private final int slices;
+    private final long maxPartBytes;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    StagingWriter(Stager stager, String loadId, BulkFormat format, List<String> columns, int slices, long maxPartBytes) {
+        this.stager = stager;
+        this.loadId = loadId;
+        this.format = format;
+        this.columns = columns;
+        this.slices = slices;
+        this.maxPartBytes = maxPartBytes;
+    }
+
+    Result write(List<Source<?>> sources) throws IOException {
+        List<SliceWriter> writers = new ArrayList<>(slices);
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("redshift-bulk-", 0).factory())) {
+            for (int s = 0; s < slices; s++) {
+                SliceWriter writer = new SliceWriter(s);
+                writers.add(writer);
+                executor.execute(writer);
+            }
+            try {
+                int next = 0;
+                for (Source<?> source : sources) {
+                    next = dispatch(source, writers, next);
+                }
+                for (SliceWriter writer : writers) writer.offer(END);
+            } catch (RuntimeException | Error e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof IOException e) throw e;
+        if (t instanceof RuntimeException e) throw e;
+        if (t != null) throw new RedshiftException(t);
+
+        long rows = 0;
+        long bytes = 0;
+        int parts = 0;
+        for (SliceWriter writer : writers) {
+            rows += writer.rows;
+            bytes += writer.bytes;
+            parts += writer.parts;
+        }
+        return new Result(rows, bytes, parts);
+    }
+
+    private <T> int dispatch(Source<T> source, List<SliceWriter> writers, int next) {
+        Iterator<? extends T> rows = source.open();
+        Block block = new Block(source.columns());
+        while (rows.hasNext()) {
+            block.rows.add(rows.next());
+            if (block.rows.size() == BLOCK_ROWS) {
+                writers.get(next++ % slices).offer(block);
+                block = new Block(source.columns());
+            }
+        }
+        if (!block.rows.isEmpty()) writers.get(next++ % slices).offer(block);
+        return next;
+    }
+
+    private void writeRow(Writer out, List<?> values) throws IOException {
+        if (!columns.isEmpty() && values.size() != columns.size())
+            throw new IllegalArgumentException("Row has " + values.size() + " values, expected " + columns.size());
+        boolean json = format == BulkFormat.JSON;
+        if (json) out.write('{');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) out.write(',');
+            if (json) {
+                quote(out, columns.get(i), true);
+                out.write(':');
+            }
+            writeValue(out, values.get(i), json);
+        }
+        if (json) out.write('}');
+        out.write('\n');
+    }
+
+    private static void writeValue(Writer out, Object value, boolean json) throws IOException {
+        switch (value) {
+            case null -> out.write(json ? "null" : BulkFormat.CSV_NULL);
+            case BigDecimal decimal -> out.write(decimal.toPlainString());
+            case Number number -> out.write(number.toString());
+            case Boolean bool -> out.write(bool.toString());
+            case Timestamp timestamp -> quote(out, timestamp.toString(), json);
+            case java.sql.Date date -> quote(out, date.toString(), json);
+            case java.util.Date date -> quote(out, new Timestamp(date.getTime()).toString(), json);
+            case LocalDateTime dateTime -> quote(out, Timestamp.valueOf(dateTime).toString(), json);
+            case LocalDate date -> quote(out, date.toString(), json);
+            case Instant instant -> quote(out, Timestamp.valueOf(LocalDateTime.ofInstant(instant, ZoneOffset.UTC)).toString(), json);
+            case OffsetDateTime dateTime -> quote(out, Timestamp.valueOf(LocalDateTime.ofInstant(dateTime.toInstant(), ZoneOffset.UTC)).toString(), json);
+            case CharSequence text -> quote(out, text.toString(), json);
+            case UUID uuid -> quote(out, uuid.toString(), json);
+            case Character character -> quote(out, character.toString(), json);
+            case Enum<?> constant -> quote(out, constant.name(), json);
+            default -> throw new IllegalArgumentException("Unsupported bulk load value type: " + value.getClass());
+        }
+    }
+
+    private static void quote(Writer out, String text, boolean json) throws IOException {
+        out.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!json) {
+                if (c == '"') out.write('"');
+                out.write(c);
+            } else if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.write(String.format("\\u%04x", (int) c));
+            } else {
+                out.write(c);
+            }
+        }
+        out.write('"');
+    }
+
+    record Result(long rows, long bytes, int parts) {
+    }
+
+    /**
+     * Fonte de linhas: cada elemento é convertido na lista de valores das colunas pelo slice que o grava.
+     */
+    record Source<T>(Supplier<? extends Iterator<? extends T>> rows, Function<? super T, ? extends List<?>> columns,
+                     AutoCloseable resource) {
+
+        Iterator<? extends T> open() {
+            return rows.get();
+        }
+
+        void close() {
+            try {
+                if (resource != null) resource.close();
+            } catch (Exception e) {
+                log.error("Error while closing bulk load row source", e);
+            }
+        }
+    }
+
+    private record Block(List<Object> rows, Function<Object, ? extends List<?>> columns) {
+
+        @SuppressWarnings("unchecked")
+        Block(Function<?, ? extends List<?>> columns) {
+            this(columns == null ? List.of() : new ArrayList<>(BLOCK_ROWS), (Function<Object, ? extends List<?>>) columns);
+        }
+    }
+
+    private final class SliceWriter implements Runnable {
+        private final int slice;
+        private final BlockingQueue<Block> queue = new ArrayBlockingQueue<>(QUEUE_BLOCKS);
+        private CountingOutputStream counter;
+        private Writer out;
+        private long rows;
+        private long bytes;
+        private int parts;
+
+        SliceWriter(int slice) {
+            this.slice = slice;
+        }
+
+        void offer(Block block) {
+            try {
+                while (!queue.offer(block, 100, TimeUnit.MILLISECONDS)) {
+                    if (block != END && failure.get() != null) throw new RedshiftException("Bulk load staging failed", failure.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RedshiftException("Bulk load staging interrupted", e);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (Block block = queue.take(); block != END; block = queue.take()) {
+                    if (failure.get() == null) write(block);
+                }
+                if (failure.get() == null) closePart();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                closeQuietly();
+            }
+        }
+
+        private void write(Block block) {
+            try {
+                if (out == null) openPart();
+                for (Object row : block.rows()) writeRow(out, block.columns().apply(row));
+                rows += block.rows().size();
+                if (counter.count >= maxPartBytes) closePart();
+            } catch (IOException | RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+
+        private void openPart() throws IOException {
+            String name = String.format("part-%04d-%04d.%s.gz", slice, parts + 1, format.extension());
+            counter = new CountingOutputStream(stager.create(loadId, name));
+            out = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(counter, BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE);
+            parts++;
+        }
+
+        private void closePart() {
+            if (out == null) return;
+            try {
+                out.close();
+                bytes += counter.count;
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                out = null;
+            }
+        }
+
+        private void closeQuietly() {
+            if (out == null) return;
+            try {
+                out.close();
+            } catch (IOException e) {
+                log.error("Error while closing bulk load part", e);
+            } finally {
+                out = null;
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.time.Duration;
+
+/**
+ * Execuções de uma instrução (por {@link SqlFingerprint}) na janela do {@link StatementProfiler}.
+ *
+ * @param fingerprint id do SQL normalizado, ou {@code other} para as instruções acima do limite
+ * @param sql SQL normalizado
+ * @param executions chamadas concluídas
+ * @param errors chamadas que falharam
+ * @param rows linhas lidas, afetadas ou enviadas em lote
+ * @param totalTime soma do tempo das chamadas
+ * @param p50 mediana, com erro relativo de até 6%
+ * @param p99 percentil 99, com erro relativo de até 6%
+ * @param max maior tempo de uma chamada
+ */
+public record StatementProfile(String fingerprint, String sql, long executions, long errors, long rows,
+                               Duration totalTime, Duration p50, Duration p99, Duration max) {
+}
@@ -0,0 +1,191 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Perfil das instruções executadas pelos builders, agrupadas por {@link SqlFingerprint}: execuções, erros,
+ * linhas e um {@link LatencyHistogram} por instrução, para saber quais consultas deste serviço pesam no
+ * cluster sem esperar pelas tabelas de sistema do Redshift.
+ *
+ * <p>Os dados ficam em duas janelas de {@code window}: a atual e a anterior, descartada na troca, então as
+ * consultas cobrem entre uma e duas janelas. A memória é fixa: até {@value #MAX_FINGERPRINTS} instruções por
+ * janela, as demais somadas em {@value #OTHER}. Execuções acima de {@code slowThreshold} são registradas em
+ * log com o tempo de cada fase.</p>
+ */
+@Slf4j
+public final class StatementProfiler implements Telemetry.ExecutionListener {
+
+    static final int MAX_FINGERPRINTS = 256;
+    static final String OTHER = "other";
+    private static final SqlFingerprint OTHER_FINGERPRINT = new SqlFingerprint(OTHER, "(other statements)");
+
+    private final long windowNanos;
+    private final long slowThresholdNanos;
+    private volatile Window current;
+    private volatile Window previous;
+
+    StatementProfiler(Duration window, Duration slowThreshold) {
+        if (window == null || window.isNegative() || window.isZero())
+            throw new IllegalArgumentException("Profiler window must be positive.");
+        this.windowNanos = window.toNanos();
+        this.slowThresholdNanos = slowThreshold == null ? 0 : slowThreshold.toNanos();
+        long now = System.nanoTime();
+        this.current = new Window(now);
+        this.previous = new Window(now - windowNanos);
+    }
+
+    @Override
+    public void executed(Telemetry.ExecutionRecord record) {
+        currentWindow().stats(record.fingerprint()).record(record);
+        if (slowThresholdNanos > 0 && record.totalNanos() >= slowThresholdNanos) {
+            log.warn("Slow statement [{} {}] {} ms (acquire {} ms, execute {} ms, fetch {} ms, map {} ms, rows {}{}): {}",
+                    record.builder(), record.fingerprint().id(), millis(record.totalNanos()), millis(record.acquireNanos()),
+                    millis(record.executeNanos()), millis(record.fetchNanos()), millis(record.mapNanos()), record.rows(),
+                    record.failed() ? ", failed" : "", record.fingerprint().normalized());
+        }
+    }
+
+    /**
+     * As {@code limit} instruções com maior tempo total na janela.
+     */
+    public List<StatementProfile> topByTotalTime(int limit) {
+        return top(limit, Comparator.comparing(StatementProfile::totalTime));
+    }
+
+    /**
+     * As {@code limit} instruções com maior p99 na janela.
+     */
+    public List<StatementProfile> topByP99(int limit) {
+        return top(limit, Comparator.comparing(StatementProfile::p99));
+    }
+
+    /**
+     * Todas as instruções da janela, por tempo total.
+     */
+    public List<StatementProfile> profiles() {
+        return topByTotalTime(Integer.MAX_VALUE);
+    }
+
+    public Duration window() {
+        return Duration.ofNanos(windowNanos);
+    }
+
+    public void reset() {
+        synchronized (this) {
+            long now = System.nanoTime();
+            current = new Window(now);
+            previous = new Window(now - windowNanos);
+        }
+    }
+
+    private List<StatementProfile> top(int limit, Comparator<StatementProfile> order) {
+        if (limit <= 0) throw new IllegalArgumentException("Limit must be greater than 0.");
+        Window recent = currentWindow();
+        Window older = previous;
+        Map<String, Stats[]> merged = new HashMap<>();
+        older.statements.forEach((id, stats) -> merged.computeIfAbsent(id, k -> new Stats[2])[0] = stats);
+        recent.statements.forEach((id, stats) -> merged.computeIfAbsent(id, k -> new Stats[2])[1] = stats);
+
+        List<StatementProfile> profiles = new ArrayList<>(merged.size());
+        for (Stats[] stats : merged.values()) profiles.add(profile(stats[0], stats[1]));
+        profiles.sort(order.reversed());
+        return profiles.size() > limit ? List.copyOf(profiles.subList(0, limit)) : List.copyOf(profiles);
+    }
+
+    private static StatementProfile profile(Stats older, Stats recent) {
+        Stats any = recent != null ? recent : older;
+        LatencyHistogram[] histograms = older == null ? new LatencyHistogram[]{recent.histogram}
+                : recent == null ? new LatencyHistogram[]{older.histogram}
+                : new LatencyHistogram[]{older.histogram, recent.histogram};
+        Duration max = Duration.ofNanos(Math.max(older == null ? 0 : older.maxNanos.get(), recent == null ? 0 : recent.maxNanos.get()));
+        return new StatementProfile(any.fingerprint.id(), any.fingerprint.normalized(),
+                sum(older, recent, s -> s.executions.sum()), sum(older, recent, s -> s.errors.sum()),
+                sum(older, recent, s -> s.rows.sum()), Duration.ofNanos(sum(older, recent, s -> s.totalNanos.sum())),
+                min(micros(LatencyHistogram.percentile(50, histograms)), max),
+                min(micros(LatencyHistogram.percentile(99, histograms)), max), max);
+    }
+
+    private static long sum(Stats older, Stats recent, ToLongFunction<Stats> value) {
+        return (older == null ? 0 : value.applyAsLong(older)) + (recent == null ? 0 : value.applyAsLong(recent));
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Duration micros(long micros) {
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Janela atual, trocada quando passa de {@code window}; depois de um período ocioso de duas janelas a
+     * anterior também é descartada.
+     */
+    private Window currentWindow() {
+        Window window = current;
+        long now = System.nanoTime();
+        if (now - window.startedAt < windowNanos) return window;
+        synchronized (this) {
+            if (now - current.startedAt >= windowNanos) {
+                previous = now - current.startedAt >= 2 * windowNanos ? new Window(now - windowNanos) : current;
+                current = new Window(now);
+            }
+            return current;
+        }
+    }
+
+    private static final class Window {
+        private final long startedAt;
+        private final Map<String, Stats> statements = new ConcurrentHashMap<>();
+
+        Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        Stats stats(SqlFingerprint fingerprint) {
+            Stats stats = statements.get(fingerprint.id());
+            if (stats != null) return stats;
+            SqlFingerprint key = statements.size() >= MAX_FINGERPRINTS ? OTHER_FINGERPRINT : fingerprint;
+            return statements.computeIfAbsent(key.id(), id -> new Stats(key));
+        }
+    }
+
+    private static final class Stats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final SqlFingerprint fingerprint;
+
+        Stats(SqlFingerprint fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        void record(Telemetry.ExecutionRecord record) {
+            executions.increment();
+            if (record.failed()) errors.increment();
+            rows.add(record.rows());
+            totalNanos.add(record.totalNanos());
+            maxNanos.accumulateAndGet(record.totalNanos(), Math::max);
+            histogram.record(TimeUnit.NANOSECONDS.toMicros(record.totalNanos()));
+        }
+    }
+}
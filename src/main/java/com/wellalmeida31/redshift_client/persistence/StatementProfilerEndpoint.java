@@ -0,0 +1,43 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint do actuator {@code /actuator/redshiftStatements} com o top N do {@link StatementProfiler};
+ * exponha com {@code management.endpoints.web.exposure.include=redshiftStatements}. {@code DELETE} zera o perfil.
+ */
+@Component
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+@Endpoint(id = "redshiftStatements")
+@RequiredArgsConstructor
+public class StatementProfilerEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final RedshiftFunctionalJdbc redshiftFunctionalJdbc;
+
+    @ReadOperation
+    public Map<String, Object> statements(@Nullable Integer limit) {
+        int top = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+        StatementProfiler profiler = redshiftFunctionalJdbc.statementProfiler();
+        Map<String, Object> statements = new LinkedHashMap<>();
+        statements.put("window", profiler.window());
+        statements.put("topByTotalTime", profiler.topByTotalTime(top));
+        statements.put("topByP99", profiler.topByP99(top));
+        return statements;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        redshiftFunctionalJdbc.statementProfiler().reset();
+    }
+}
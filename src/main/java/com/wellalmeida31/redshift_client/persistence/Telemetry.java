@@ -0,0 +1,326 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Medição das fases de execução dos construtores (conexão, prepare, execução, busca de linhas, mapeamento e
+ * handlers), entregue aos {@link ExecutionListener}s ao final de cada chamada.
+ *
+ * <p>Sem ouvintes (nenhum {@code MeterRegistry} no contexto) e sem os {@link JdbcEvents} ativos em uma gravação
+ * JFR, {@link #start} devolve uma execução desativada compartilhada: os métodos só delegam ao JDBC, sem
+ * relógio nem alocação.</p>
+ */
+@Slf4j
+final class Telemetry {
+
+    static final Telemetry DISABLED = new Telemetry(List.of());
+    private static final String MICROMETER = "io.micrometer.core.instrument.MeterRegistry";
+
+    private final List<ExecutionListener> listeners;
+    private final Execution disabled = new Execution(null, null, null);
+
+    private Telemetry(List<ExecutionListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Ouvintes disponíveis no contexto: Micrometer, se estiver no classpath e houver um {@code MeterRegistry},
+     * e o {@link StatementProfiler}, quando ativado.
+     */
+    static Telemetry create(BeanFactory beanFactory, StatementProfiler profiler) {
+        List<ExecutionListener> listeners = new ArrayList<>();
+        if (profiler != null) listeners.add(profiler);
+        if (beanFactory != null && ClassUtils.isPresent(MICROMETER, Telemetry.class.getClassLoader())) {
+            ExecutionListener micrometer = MicrometerListener.lookup(beanFactory);
+            if (micrometer != null) listeners.add(micrometer);
+        }
+        return listeners.isEmpty() ? DISABLED : new Telemetry(List.copyOf(listeners));
+    }
+
+    Execution start(String builder, String sql) {
+        if (listeners.isEmpty() && !JdbcEvents.statementEnabled()) return disabled;
+        return new Execution(this, builder, SqlFingerprint.of(sql));
+    }
+
+    private void publish(ExecutionRecord record) {
+        for (ExecutionListener listener : listeners) {
+            try {
+                listener.executed(record);
+            } catch (RuntimeException e) {
+                log.debug("Execution listener failed", e);
+            }
+        }
+    }
+
+    interface ExecutionListener {
+        void executed(ExecutionRecord record);
+    }
+
+    /**
+     * Tempos somados de uma chamada, em nanossegundos; fases que não ocorreram ficam com zero.
+     */
+    record ExecutionRecord(String builder, SqlFingerprint fingerprint, long acquireNanos, long prepareNanos,
+                           long executeNanos, long fetchNanos, long mapNanos, long handlerNanos, long totalNanos,
+                           long rows, int batches, boolean failed) {
+    }
+
+    /**
+     * Uma chamada de construtor. Os métodos podem ser usados por várias threads (blocos paralelos do
+     * {@code JdbcBatchUpdate}, faixas da consulta particionada); o resultado é publicado uma única vez, no
+     * primeiro {@link #close()}.
+     */
+    static final class Execution implements AutoCloseable {
+        private final Telemetry telemetry;
+        private final String builder;
+        private final SqlFingerprint fingerprint;
+        private final long startedAt;
+        private long acquireNanos;
+        private long prepareNanos;
+        private long executeNanos;
+        private long fetchNanos;
+        private long mapNanos;
+        private long handlerNanos;
+        private long rows;
+        private int batches;
+        private boolean completed;
+        private boolean published;
+        private final JdbcEvents.StatementExecuted event;
+        private JdbcEvents.RowsMapped rowsEvent;
+
+        private Execution(Telemetry telemetry, String builder, SqlFingerprint fingerprint) {
+            this.telemetry = telemetry;
+            this.builder = builder;
+            this.fingerprint = fingerprint;
+            this.startedAt = telemetry == null ? 0 : System.nanoTime();
+            this.event = telemetry == null ? null : new JdbcEvents.StatementExecuted();
+            if (event != null) event.begin();
+        }
+
+        Connection connection(DataSource dataSource) throws SQLException {
+            if (telemetry == null) return dataSource.getConnection();
+            JdbcEvents.ConnectionAcquired acquired = new JdbcEvents.ConnectionAcquired();
+            acquired.begin();
+            long start = System.nanoTime();
+            try {
+                return dataSource.getConnection();
+            } finally {
+                add(Phase.ACQUIRE, System.nanoTime() - start);
+                if (acquired.shouldCommit()) {
+                    acquired.builder = builder;
+                    acquired.fingerprint = fingerprint.id();
+                    acquired.commit();
+                }
+            }
+        }
+
+        PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+            if (telemetry == null) return connection.prepareStatement(sql);
+            long start = System.nanoTime();
+            try {
+                return connection.prepareStatement(sql);
+            } finally {
+                add(Phase.PREPARE, System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Statement de cursor ({@code TYPE_FORWARD_ONLY}, {@code CONCUR_READ_ONLY}).
+         */
+        PreparedStatement prepareCursor(Connection connection, String sql) throws SQLException {
+            if (telemetry == null) return connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            long start = System.nanoTime();
+            try {
+                return connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            } finally {
+                add(Phase.PREPARE, System.nanoTime() - start);
+            }
+        }
+
+        ResultSet executeQuery(PreparedStatement ps) throws SQLException {
+            if (telemetry == null) return ps.executeQuery();
+            long start = System.nanoTime();
+            try {
+                return ps.executeQuery();
+            } finally {
+                add(Phase.EXECUTE, System.nanoTime() - start);
+            }
+        }
+
+        int executeUpdate(PreparedStatement ps) throws SQLException {
+            if (telemetry == null) return ps.executeUpdate();
+            long start = System.nanoTime();
+            int affected = 0;
+            try {
+                affected = ps.executeUpdate();
+                return affected;
+            } finally {
+                add(Phase.EXECUTE, System.nanoTime() - start);
+                rows(Math.max(affected, 0));
+            }
+        }
+
+        /**
+         * Um bloco de lote; conta como batch e soma as linhas do bloco.
+         */
+        int[] executeBatch(PreparedStatement ps) throws SQLException {
+            if (telemetry == null) return ps.executeBatch();
+            JdbcEvents.BatchChunkFlushed flushed = new JdbcEvents.BatchChunkFlushed();
+            flushed.begin();
+            long start = System.nanoTime();
+            int[] updateCounts = null;
+            try {
+                updateCounts = ps.executeBatch();
+                return updateCounts;
+            } finally {
+                batch(flushed, System.nanoTime() - start, updateCounts == null ? 0 : updateCounts.length);
+            }
+        }
+
+        /**
+         * Um bloco executado por {@code executeUpdate} (INSERT multi-linha).
+         */
+        int executeChunk(PreparedStatement ps, int chunkRows) throws SQLException {
+            if (telemetry == null) return ps.executeUpdate();
+            JdbcEvents.BatchChunkFlushed flushed = new JdbcEvents.BatchChunkFlushed();
+            flushed.begin();
+            long start = System.nanoTime();
+            try {
+                return ps.executeUpdate();
+            } finally {
+                batch(flushed, System.nanoTime() - start, chunkRows);
+            }
+        }
+
+        boolean next(ResultSet rs) throws SQLException {
+            if (telemetry == null) return rs.next();
+            long start = System.nanoTime();
+            boolean next = rs.next();
+            long nanos = System.nanoTime() - start;
+            synchronized (this) {
+                fetchNanos += nanos;
+                if (next) {
+                    if (rowsEvent == null) {
+                        rowsEvent = new JdbcEvents.RowsMapped();
+                        rowsEvent.begin();
+                    }
+                    rows++;
+                }
+            }
+            return next;
+        }
+
+        <T> T map(RedshiftFunctionalJdbc.SQLFunction<ResultSet, T> mapper, ResultSet rs) throws SQLException {
+            if (telemetry == null) return mapper.apply(rs);
+            long start = System.nanoTime();
+            try {
+                return mapper.apply(rs);
+            } finally {
+                add(Phase.MAP, System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Início de um handler; passe o valor para {@link #handled(long)}.
+         */
+        long handlerStart() {
+            return telemetry == null ? 0 : System.nanoTime();
+        }
+
+        void handled(long start) {
+            if (telemetry != null) add(Phase.HANDLER, System.nanoTime() - start);
+        }
+
+        synchronized void rows(long count) {
+            if (telemetry != null) rows += count;
+        }
+
+        <T> T completed(T value) {
+            completed();
+            return value;
+        }
+
+        /**
+         * Marca a chamada como bem-sucedida; sem isso, o {@link #close()} publica a execução como falha.
+         */
+        synchronized void completed() {
+            completed = true;
+        }
+
+        private void batch(JdbcEvents.BatchChunkFlushed flushed, long nanos, int chunkRows) {
+            synchronized (this) {
+                executeNanos += nanos;
+                batches++;
+                rows += chunkRows;
+            }
+            if (flushed.shouldCommit()) {
+                flushed.builder = builder;
+                flushed.fingerprint = fingerprint.id();
+                flushed.rows = chunkRows;
+                flushed.commit();
+            }
+        }
+
+        private synchronized void add(Phase phase, long nanos) {
+            switch (phase) {
+                case ACQUIRE -> acquireNanos += nanos;
+                case PREPARE -> prepareNanos += nanos;
+                case EXECUTE -> executeNanos += nanos;
+                case FETCH -> fetchNanos += nanos;
+                case MAP -> mapNanos += nanos;
+                case HANDLER -> handlerNanos += nanos;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (telemetry == null) return;
+            ExecutionRecord record;
+            synchronized (this) {
+                if (published) return;
+                published = true;
+                record = new ExecutionRecord(builder, fingerprint, acquireNanos, prepareNanos, executeNanos, fetchNanos,
+                        mapNanos, handlerNanos, System.nanoTime() - startedAt, rows, batches, !completed);
+            }
+            commitEvents(record);
+            telemetry.publish(record);
+        }
+
+        private void commitEvents(ExecutionRecord record) {
+            if (rowsEvent != null && rowsEvent.shouldCommit()) {
+                rowsEvent.builder = builder;
+                rowsEvent.fingerprint = fingerprint.id();
+                rowsEvent.rows = record.rows();
+                rowsEvent.fetchTime = record.fetchNanos();
+                rowsEvent.mapTime = record.mapNanos();
+                rowsEvent.commit();
+            }
+            if (event.shouldCommit()) {
+                event.builder = builder;
+                event.fingerprint = fingerprint.id();
+                event.sql = fingerprint.normalized();
+                event.rows = record.rows();
+                event.batches = record.batches();
+                event.failed = record.failed();
+                event.acquireTime = record.acquireNanos();
+                event.prepareTime = record.prepareNanos();
+                event.executeTime = record.executeNanos();
+                event.fetchTime = record.fetchNanos();
+                event.mapTime = record.mapNanos();
+                event.handlerTime = record.handlerNanos();
+                event.commit();
+            }
+        }
+    }
+
+    enum Phase {ACQUIRE, PREPARE, EXECUTE, FETCH, MAP, HANDLER}
+}
@@ -0,0 +1,11 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+/**
+ * Resumo de um {@code JdbcUpsert} concluído.
+ *
+ * @param rowsStaged linhas carregadas na tabela de staging
+ * @param rowsDeleted linhas da tabela de destino substituídas (mesma chave)
+ * @param rowsInserted linhas inseridas a partir do staging
+ */
+public record UpsertSummary(long rowsStaged, long rowsDeleted, long rowsInserted) {
+}
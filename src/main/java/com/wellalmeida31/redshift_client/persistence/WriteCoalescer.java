@@ -0,0 +1,290 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.wellalmeida31.redshift_client.exception.RedshiftException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * Agrupa escritas de uma linha enviadas por várias threads (group commit).
+ *
+ * <p>Cada texto SQL (e nível de isolamento) tem sua fila e sua virtual thread: a primeira escrita abre um
+ * micro-lote, que é enviado quando chega a {@code maxBatchSize} linhas ou quando {@code maxDelay} termina,
+ * em um único {@code executeBatch()} e um único commit. Cada chamador recebe um {@link CompletableFuture}
+ * com o update count da sua linha; se o lote falhar, a transação é desfeita e todos os futures do lote
+ * falham. Com {@code maxQueued} escritas pendentes na fila, novas escritas falham na hora com
+ * {@link RejectedExecutionException}.</p>
+ *
+ * <p>{@link #close()} recusa novas escritas e envia as que já foram aceitas, aguardando até
+ * {@value #CLOSE_TIMEOUT_SECONDS}s; as que não terminarem no prazo falham com {@link RedshiftException}.</p>
+ *
+ * <pre>{@code
+ * redshiftPool.jdbcUpdate()
+ *         .query("INSERT INTO event (id, type) VALUES (?, ?)")
+ *         .parameters(Arrays.asList(id, type))
+ *         .executeCoalesced()
+ *         .thenAccept(rows -> log.debug("event stored"));
+ * }</pre>
+ */
+@Slf4j
+public final class WriteCoalescer implements AutoCloseable {
+
+    static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final DataSource dataSource;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final int maxQueued;
+    private final Map<LaneKey, Lane> lanes = new ConcurrentHashMap<>();
+    private final ThreadFactory threadFactory = Thread.ofVirtual().name("redshift-coalescer-", 0).factory();
+    private volatile boolean closed;
+
+    public WriteCoalescer(DataSource dataSource) {
+        this(dataSource, 500, Duration.ofMillis(10), 10_000);
+    }
+
+    public WriteCoalescer(DataSource dataSource, int maxBatchSize, Duration maxDelay, int maxQueued) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("Max batch size must be greater than 0.");
+        if (maxQueued <= 0) throw new IllegalArgumentException("Max queued must be greater than 0.");
+        if (maxDelay == null || maxDelay.isNegative()) throw new IllegalArgumentException("Max delay cannot be negative.");
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource is null");
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxQueued = maxQueued;
+    }
+
+    CompletableFuture<Integer> submit(String query, Integer isolationLevel, RedshiftFunctionalJdbc.SQLConsumer<PreparedStatement> parameters) {
+        if (closed) return CompletableFuture.failedFuture(new RejectedExecutionException("Write coalescer is closed"));
+        Write write = new Write(parameters, new CompletableFuture<>());
+        LaneKey key = new LaneKey(query, isolationLevel);
+        while (true) {
+            if (closed) return CompletableFuture.failedFuture(new RejectedExecutionException("Write coalescer is closed"));
+            Lane lane = lanes.computeIfAbsent(key, this::start);
+            synchronized (lane) {
+                if (lane.stopped) continue;
+                if (!lane.queue.offer(write))
+                    return CompletableFuture.failedFuture(new RejectedExecutionException("Write queue is full for " + query));
+                return write.result();
+            }
+        }
+    }
+
+    /**
+     * Escritas pendentes em todas as filas.
+     */
+    public int queued() {
+        int queued = 0;
+        for (Lane lane : lanes.values()) queued += lane.queue.size();
+        return queued;
+    }
+
+    /**
+     * Recusa novas escritas e aguarda o envio das que já estão nas filas por até {@value #CLOSE_TIMEOUT_SECONDS}s.
+     */
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(CLOSE_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Recusa novas escritas e aguarda o envio das que já estão nas filas por até {@code timeout}. As escritas
+     * ainda na fila ou em envio quando o prazo termina falham com {@link RedshiftException} (as em envio podem
+     * ter sido gravadas). Devolve {@code true} se todas foram enviadas no prazo.
+     */
+    public boolean close(Duration timeout) {
+        closed = true;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!lanes.isEmpty()) {
+            List<Lane> open = List.copyOf(lanes.values());
+            for (Lane lane : open) lane.wake();
+            for (Lane lane : open) {
+                try {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining > 0 && lane.worker.join(Duration.ofNanos(remaining))) continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                abandon();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void abandon() {
+        RedshiftException failure = new RedshiftException("Write coalescer closed before the write was flushed");
+        int failed = 0;
+        for (Lane lane : List.copyOf(lanes.values())) {
+            List<Write> pending = lane.abandon();
+            lanes.remove(lane.key, lane);
+            for (Write write : pending) {
+                if (write.result().completeExceptionally(failure)) failed++;
+            }
+        }
+        log.warn("Write coalescer closed with {} writes not flushed", failed);
+    }
+
+    private Lane start(LaneKey key) {
+        Lane lane = new Lane(key, new ArrayBlockingQueue<>(maxQueued));
+        lane.worker = threadFactory.newThread(() -> run(lane));
+        lane.worker.start();
+        return lane;
+    }
+
+    private void run(Lane lane) {
+        List<Write> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!closed) {
+                Write first = lane.queue.poll(IDLE_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    synchronized (lane) {
+                        if (lane.queue.isEmpty()) {
+                            lane.stopped = true;
+                            lanes.remove(lane.key, lane);
+                            return;
+                        }
+                    }
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    lane.queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) break;
+                    Write next = lane.queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(lane, batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // close(): envia o que já foi aceito
+        }
+        synchronized (lane) {
+            lane.stopped = true;
+            lanes.remove(lane.key, lane);
+        }
+        // o restante fica na fila até ser enviado, para que close() possa falhar o que não couber no prazo
+        while (true) {
+            lane.queue.drainTo(batch, maxBatchSize - batch.size());
+            if (batch.isEmpty()) return;
+            flush(lane, batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(Lane lane, List<Write> batch) {
+        if (!lane.begin(batch)) {
+            RedshiftException failure = new RedshiftException("Write coalescer closed before the write was flushed");
+            for (Write write : batch) write.result().completeExceptionally(failure);
+            return;
+        }
+        try {
+            flush(lane.key, batch);
+        } finally {
+            lane.end();
+        }
+    }
+
+    private void flush(LaneKey key, List<Write> batch) {
+        List<Write> bound = new ArrayList<>(batch.size());
+        try (Connection connection = dataSource.getConnection()) {
+            if (key.isolationLevel() != null) connection.setTransactionIsolation(key.isolationLevel());
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            Throwable failure = null;
+            try (PreparedStatement ps = connection.prepareStatement(key.query())) {
+                for (Write write : batch) {
+                    try {
+                        if (write.parameters() != null) write.parameters().accept(ps);
+                        ps.addBatch();
+                        bound.add(write);
+                    } catch (SQLException | RuntimeException e) {
+                        ps.clearParameters();
+                        write.result().completeExceptionally(e);
+                    }
+                }
+                if (bound.isEmpty()) return;
+                int[] updateCounts = ps.executeBatch();
+                connection.commit();
+                for (int i = 0; i < bound.size(); i++) bound.get(i).result().complete(i < updateCounts.length ? updateCounts[i] : 0);
+            } catch (SQLException | RuntimeException e) {
+                failure = e;
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackError) {
+                    e.addSuppressed(rollbackError);
+                }
+                throw e;
+            } finally {
+                RedshiftFunctionalJdbc.restoreAutoCommit(connection, autoCommit, failure);
+            }
+        } catch (SQLException | RuntimeException e) {
+            RedshiftException failure = new RedshiftException("Coalesced batch of " + bound.size() + " writes failed", e);
+            for (Write write : batch) write.result().completeExceptionally(failure);
+            log.error("Coalesced batch failed: {}", key.query(), e);
+        }
+    }
+
+    private record LaneKey(String query, Integer isolationLevel) {
+    }
+
+    private record Write(RedshiftFunctionalJdbc.SQLConsumer<PreparedStatement> parameters, CompletableFuture<Integer> result) {
+    }
+
+    private static final class Lane {
+        private final LaneKey key;
+        private final BlockingQueue<Write> queue;
+        private Thread worker;
+        private boolean stopped;
+        private boolean abandoned;
+        private List<Write> flushing = List.of();
+
+        Lane(LaneKey key, BlockingQueue<Write> queue) {
+            this.key = key;
+            this.queue = queue;
+        }
+
+        /**
+         * Interrompe a espera do worker no fechamento, mas nunca um envio em andamento.
+         */
+        synchronized void wake() {
+            if (flushing.isEmpty()) worker.interrupt();
+        }
+
+        synchronized boolean begin(List<Write> batch) {
+            Thread.interrupted();
+            if (abandoned) return false;
+            flushing = List.copyOf(batch);
+            return true;
+        }
+
+        synchronized void end() {
+            flushing = List.of();
+        }
+
+        /**
+         * Encerra a fila no fechamento por prazo e devolve as escritas que ficaram na fila ou em envio.
+         */
+        synchronized List<Write> abandon() {
+            abandoned = true;
+            stopped = true;
+            List<Write> pending = new ArrayList<>(flushing);
+            queue.drainTo(pending);
+            return pending;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.wellalmeida31.redshift_client.id.engine;
+
+import org.hibernate.id.IdentifierGenerationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorLanBasedTest {
+
+    private static final long NODE_ID = 0x2A5;
+    private static final long NOW = 1_750_000_000_000L;
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 200_000;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final IdGeneratorLanBased generator = new IdGeneratorLanBased(clock::get, NODE_ID);
+
+    @Test
+    void concurrentThreadsOnOneInstanceNeverRepeatIds() throws Exception {
+        IdGeneratorLanBased shared = new IdGeneratorLanBased(System::currentTimeMillis, NODE_ID);
+        long[][] generated = new long[THREADS][IDS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long[] ids = generated[t];
+            threads.add(Thread.ofPlatform().name("id-" + t).start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < ids.length; i++) ids[i] = (long) shared.generate(null, null);
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+
+        long[] all = new long[THREADS * IDS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            long[] ids = generated[t];
+            for (int i = 0; i < ids.length; i++) {
+                assertEquals(NODE_ID, node(ids[i]), "node bits");
+                if (i > 0) assertTrue(ids[i] > ids[i - 1], "ids of one thread must increase");
+            }
+            System.arraycopy(ids, 0, all, t * IDS_PER_THREAD, IDS_PER_THREAD);
+        }
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) assertTrue(all[i] != all[i - 1], "duplicate id " + all[i]);
+    }
+
+    @Test
+    void exhaustedSequenceBorrowsTheNextMillisecond() {
+        long first = next();
+        for (int i = 1; i < 4096; i++) next();
+
+        long borrowed = next();
+
+        assertEquals(timestamp(first) + 1, timestamp(borrowed));
+        assertEquals(0, sequence(borrowed));
+        assertEquals(NODE_ID, node(borrowed));
+    }
+
+    @Test
+    void smallClockRegressionContinuesFromLastTimestamp() throws Exception {
+        long first = next();
+        clock.set(NOW - IdGeneratorLanBased.MAX_BORROWED_MILLIS);
+
+        long id = nextAsync().get(1, TimeUnit.SECONDS);
+
+        assertEquals(timestamp(first), timestamp(id));
+        assertEquals(sequence(first) + 1, sequence(id));
+    }
+
+    @Test
+    void clockRegressionUpToTheLimitWaitsForTheClock() throws Exception {
+        long first = next();
+        clock.set(NOW - IdGeneratorLanBased.MAX_CLOCK_REGRESSION_MILLIS);
+
+        CompletableFuture<Long> waiting = nextAsync();
+        assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+        clock.set(NOW + 1);
+
+        long id = waiting.get(1, TimeUnit.SECONDS);
+        assertEquals(timestamp(first) + 1, timestamp(id));
+        assertEquals(0, sequence(id));
+    }
+
+    @Test
+    void largerClockRegressionThrowsUntilTheClockCatchesUp() {
+        long first = next();
+        clock.set(NOW - IdGeneratorLanBased.MAX_CLOCK_REGRESSION_MILLIS - 1);
+
+        assertThrows(IdentifierGenerationException.class, this::next);
+
+        clock.set(NOW);
+        assertEquals(first + 1, next());
+    }
+
+    @Test
+    void rejectsNodeIdWiderThanTenBits() {
+        assertThrows(IllegalArgumentException.class, () -> new IdGeneratorLanBased(clock::get, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new IdGeneratorLanBased(clock::get, -1));
+    }
+
+    private long next() {
+        return (long) generator.generate(null, null);
+    }
+
+    private CompletableFuture<Long> nextAsync() {
+        return CompletableFuture.supplyAsync(this::next, runnable -> Thread.ofPlatform().daemon().start(runnable));
+    }
+
+    private static long timestamp(long id) {
+        return id >>> 22;
+    }
+
+    private static long node(long id) {
+        return (id >>> 12) & 0x3FF;
+    }
+
+    private static long sequence(long id) {
+        return id & 0xFFF;
+    }
+}
@@ -0,0 +1,219 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wellalmeida31.redshift_client.tools.EpochMilliLocalDateTimeDeserializer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassRowMapperTest {
+
+    /** Mesma configuração do {@code ObjectMapper} de {@link RedshiftFunctionalJdbc}. */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule().addDeserializer(LocalDateTime.class, new EpochMilliLocalDateTimeDeserializer()))
+            .setPropertyNamingStrategy(PropertyNamingStrategies.LOWER_CAMEL_CASE)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final Timestamp CREATED_AT = Timestamp.from(Instant.parse("2024-03-10T14:15:16.789Z"));
+
+    @Test
+    void mapsRecordLikeTheJacksonPath() throws SQLException {
+        List<String> labels = List.of("id", "customer", "amount", "quantity", "active", "created_at", "unknown");
+        List<Object[]> rows = List.of(
+                new Object[]{7L, "acme", new BigDecimal("10.50"), 3, true, CREATED_AT, "ignored"},
+                new Object[]{8, null, null, null, null, null, null});
+
+        List<OrderRecord> mapped = mapAll(OrderRecord.class, labels, rows);
+
+        assertEquals(jackson(OrderRecord.class, labels, rows), mapped);
+        assertEquals(new OrderRecord(7L, "acme", new BigDecimal("10.50"), 3, true,
+                LocalDateTime.of(2024, 3, 10, 14, 15, 16, 789_000_000)), mapped.get(0));
+        assertEquals(new OrderRecord(8L, null, null, 0, false, null), mapped.get(1));
+    }
+
+    @Test
+    void mapsBeanThroughSettersAndPublicFields() throws SQLException {
+        List<String> labels = List.of("id", "customer_name", "secret", "total", "day");
+        List<Object[]> rows = List.<Object[]>of(new Object[]{5, "acme", "s3cr3t", 42L, java.sql.Date.valueOf("2024-03-10")});
+
+        OrderBean bean = mapAll(OrderBean.class, labels, rows).getFirst();
+        OrderBean expected = jackson(OrderBean.class, labels, rows).getFirst();
+
+        assertEquals(5L, bean.getId());
+        assertEquals("acme", bean.getCustomer());
+        assertNull(bean.getSecret());
+        assertEquals(new BigDecimal("42"), bean.total);
+        assertEquals(LocalDate.of(2024, 3, 10), bean.getDay());
+        assertEquals(expected.getId(), bean.getId());
+        assertEquals(expected.getCustomer(), bean.getCustomer());
+        assertEquals(expected.getSecret(), bean.getSecret());
+        assertEquals(0, expected.total.compareTo(bean.total));
+        assertEquals(expected.getDay(), bean.getDay());
+    }
+
+    @Test
+    void mapsClassWithBuilder() throws SQLException {
+        List<String> labels = List.of("id", "customer");
+        List<Object[]> rows = List.of(new Object[]{1L, "a"}, new Object[]{2L, "b"});
+
+        List<OrderValue> mapped = mapAll(OrderValue.class, labels, rows);
+
+        assertEquals(List.of(new OrderValue(1L, "a"), new OrderValue(2L, "b")), mapped);
+    }
+
+    @Test
+    void mapsMapThroughJackson() throws SQLException {
+        List<String> labels = List.of("id", "customer");
+        List<Object[]> rows = List.<Object[]>of(new Object[]{1L, "a"});
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> mapped = mapAll(Map.class, labels, rows).getFirst();
+
+        assertEquals(Map.of("id", 1L, "customer", "a"), mapped);
+    }
+
+    @Test
+    void compilesOnePlanPerColumnShape() throws SQLException {
+        List<Object[]> byId = List.<Object[]>of(new Object[]{1L, "a"});
+        List<Object[]> byCustomer = List.<Object[]>of(new Object[]{"b", 2L});
+
+        OrderValue first = mapAll(OrderValue.class, List.of("id", "customer"), byId).getFirst();
+        OrderValue second = mapAll(OrderValue.class, List.of("customer", "id"), byCustomer).getFirst();
+
+        assertEquals(new OrderValue(1L, "a"), first);
+        assertEquals(new OrderValue(2L, "b"), second);
+    }
+
+    private static <T> List<T> mapAll(Class<T> type, List<String> labels, List<Object[]> rows) throws SQLException {
+        ClassRowMapper<T> mapper = new ClassRowMapper<>(type, MAPPER);
+        ResultSet rs = FakeJdbc.resultSet(labels, rows);
+        List<T> mapped = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++, rs.next()) mapped.add(mapper.apply(rs));
+        return mapped;
+    }
+
+    /** Caminho anterior ao {@link ClassRowMapper}: {@code Map} por linha convertido pelo Jackson. */
+    private static <T> List<T> jackson(Class<T> type, List<String> labels, List<Object[]> rows) {
+        List<T> mapped = new ArrayList<>();
+        for (Object[] row : rows) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < labels.size(); i++) map.put(labels.get(i), row[i]);
+            mapped.add(MAPPER.convertValue(map, type));
+        }
+        return mapped;
+    }
+
+    record OrderRecord(long id, String customer, BigDecimal amount, int quantity, boolean active,
+                       @JsonProperty("created_at") LocalDateTime createdAt) {
+    }
+
+    static class OrderBean {
+        private Long id;
+        @JsonAlias("customer_name")
+        private String customer;
+        @JsonIgnore
+        private String secret;
+        public BigDecimal total;
+        private LocalDate day;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+
+        public LocalDate getDay() {
+            return day;
+        }
+
+        public void setDay(LocalDate day) {
+            this.day = day;
+        }
+    }
+
+    static final class OrderValue {
+        private final Long id;
+        private final String customer;
+
+        private OrderValue(Long id, String customer) {
+            this.id = id;
+            this.customer = customer;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof OrderValue other && id.equals(other.id) && customer.equals(other.customer);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode() * 31 + customer.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "OrderValue(" + id + ", " + customer + ")";
+        }
+
+        public static final class Builder {
+            private Long id;
+            private String customer;
+
+            public Builder id(Long id) {
+                this.id = id;
+                return this;
+            }
+
+            public Builder customer(String customer) {
+                this.customer = customer;
+                return this;
+            }
+
+            public OrderValue build() {
+                return new OrderValue(id, customer);
+            }
+        }
+    }
+}
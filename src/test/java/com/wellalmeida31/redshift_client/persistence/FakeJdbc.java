@@ -0,0 +1,51 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+
+/**
+ * Dublês mínimos de JDBC para os testes, sem banco.
+ */
+final class FakeJdbc {
+
+    private FakeJdbc() {}
+
+    /**
+     * {@link ResultSet} sobre {@code rows}, já posicionado na primeira linha.
+     */
+    static ResultSet resultSet(List<String> labels, List<Object[]> rows) {
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(FakeJdbc.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> labels.size();
+                    case "getColumnLabel", "getColumnName" -> labels.get((Integer) args[0] - 1);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        int[] row = {0};
+        return (ResultSet) Proxy.newProxyInstance(FakeJdbc.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getMetaData" -> metaData;
+                    case "next" -> ++row[0] < rows.size();
+                    case "getObject" -> rows.get(row[0])[(Integer) args[0] - 1];
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * {@link PreparedStatement} que acrescenta a {@code calls} cada {@code setXxx} recebido.
+     */
+    static PreparedStatement recordingStatement(List<Call> calls) {
+        return (PreparedStatement) Proxy.newProxyInstance(FakeJdbc.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("set")) throw new UnsupportedOperationException(method.getName());
+                    calls.add(new Call(method.getName(), (Integer) args[0], args[1]));
+                    return null;
+                });
+    }
+
+    record Call(String method, int index, Object value) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.wellalmeida31.redshift_client.exception.RedshiftException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetTokenTest {
+
+    static Stream<Arguments> values() {
+        return Stream.of(
+                Arguments.of("texto, com \"aspas\" e acentuação"),
+                Arguments.of(Integer.MIN_VALUE),
+                Arguments.of(Long.MAX_VALUE),
+                Arguments.of((short) -7),
+                Arguments.of(new BigDecimal("12345678901234567890.000123")),
+                Arguments.of(-0.1d),
+                Arguments.of(3.25f),
+                Arguments.of(Boolean.TRUE),
+                Arguments.of(Timestamp.valueOf("2024-03-10 14:15:16.123456789")),
+                Arguments.of(java.sql.Date.valueOf("2024-02-29")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void roundTripsValueWithItsType(Object value) {
+        String token = KeysetToken.encode(List.of("k"), new Object[]{value});
+
+        Object[] decoded = KeysetToken.decode(token, List.of("k"));
+
+        assertEquals(1, decoded.length);
+        assertEquals(value.getClass(), decoded[0].getClass());
+        assertEquals(value, decoded[0]);
+    }
+
+    @Test
+    void roundTripsSeveralColumnsInOrder() {
+        Object[] values = {Timestamp.valueOf("2024-03-10 14:15:16"), 42L, "b"};
+
+        String token = KeysetToken.encode(List.of("created_at", "id", "name"), values);
+
+        assertArrayEquals(values, KeysetToken.decode(token, List.of("created_at", "id", "name")));
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "token must be URL safe without padding: " + token);
+    }
+
+    @Test
+    void rejectsTokenForOtherSortKeys() {
+        String token = KeysetToken.encode(List.of("id"), new Object[]{1L});
+
+        assertThrows(RedshiftException.class, () -> KeysetToken.decode(token, List.of("created_at")));
+        assertThrows(RedshiftException.class, () -> KeysetToken.decode(token, List.of("id", "name")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "bm90IGpzb24"})
+    void rejectsTokenThatIsNotBase64Json(String token) {
+        assertThrows(RedshiftException.class, () -> KeysetToken.decode(token, List.of("id")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{}", "{\"c\":[\"id\"]}", "{\"c\":[\"id\"],\"v\":\"x\"}", "{\"c\":[\"id\"],\"v\":[[\"x\",\"1\"]]}",
+            "{\"c\":[\"id\"],\"v\":[[\"l\",\"a\"]]}", "{\"c\":[\"id\"],\"v\":[[\"l\"]]}", "{\"c\":[\"id\"],\"v\":[[\"t\",\"ontem\"]]}"})
+    void rejectsMalformedPayload(String json) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(RedshiftException.class, () -> KeysetToken.decode(token, List.of("id")));
+    }
+
+    @Test
+    void rejectsUnsupportedValueType() {
+        assertThrows(RedshiftException.class, () -> KeysetToken.encode(List.of("id"), new Object[]{new Object()}));
+    }
+}
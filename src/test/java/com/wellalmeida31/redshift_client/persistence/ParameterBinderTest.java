@@ -0,0 +1,116 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import com.wellalmeida31.redshift_client.persistence.FakeJdbc.Call;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParameterBinderTest {
+
+    private static final Instant INSTANT = Instant.parse("2024-03-10T14:15:16.789Z");
+    private static final byte[] BYTES = {1, 2, 3};
+    private static final UUID ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    static Stream<Arguments> supportedTypes() {
+        return Stream.of(
+                Arguments.of("texto", "setString", "texto"),
+                Arguments.of(1, "setInt", 1),
+                Arguments.of(2L, "setLong", 2L),
+                Arguments.of((short) 3, "setShort", (short) 3),
+                Arguments.of(4.5d, "setDouble", 4.5d),
+                Arguments.of(5.5f, "setFloat", 5.5f),
+                Arguments.of(true, "setBoolean", true),
+                Arguments.of(new BigDecimal("6.70"), "setBigDecimal", new BigDecimal("6.70")),
+                Arguments.of(ID, "setString", ID.toString()),
+                Arguments.of(BYTES, "setBytes", BYTES),
+                Arguments.of(Timestamp.from(INSTANT), "setTimestamp", Timestamp.from(INSTANT)),
+                Arguments.of(java.sql.Date.valueOf("2024-03-10"), "setDate", java.sql.Date.valueOf("2024-03-10")),
+                Arguments.of(java.util.Date.from(INSTANT), "setTimestamp", Timestamp.from(INSTANT)),
+                Arguments.of(LocalDateTime.of(2024, 3, 10, 14, 15, 16), "setTimestamp", Timestamp.valueOf(LocalDateTime.of(2024, 3, 10, 14, 15, 16))),
+                Arguments.of(LocalDate.of(2024, 3, 10), "setDate", java.sql.Date.valueOf("2024-03-10")),
+                Arguments.of(INSTANT, "setTimestamp", Timestamp.from(INSTANT)),
+                Arguments.of(OffsetDateTime.ofInstant(INSTANT, ZoneOffset.ofHours(-3)), "setTimestamp", Timestamp.from(INSTANT)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("supportedTypes")
+    void bindsEachSupportedTypeWithItsSetter(Object value, String method, Object bound) throws SQLException {
+        List<Call> compiled = new ArrayList<>();
+        List<Call> dynamic = new ArrayList<>();
+
+        ParameterBinder.of(List.of(value)).bind(FakeJdbc.recordingStatement(compiled), List.of(value));
+        ParameterBinder.bindValue(FakeJdbc.recordingStatement(dynamic), 1, value);
+
+        assertEquals(List.of(new Call(method, 1, bound)), compiled);
+        assertEquals(compiled, dynamic);
+    }
+
+    @Test
+    void bindsNullAsSqlNull() throws SQLException {
+        List<Call> calls = new ArrayList<>();
+        PreparedStatement ps = FakeJdbc.recordingStatement(calls);
+
+        ParameterBinder.of(Arrays.asList(1L, null)).bind(ps, Arrays.asList(null, null));
+
+        assertEquals(List.of(new Call("setNull", 1, Types.NULL), new Call("setNull", 2, Types.NULL)), calls);
+    }
+
+    @Test
+    void fallsBackToDynamicDispatchWhenRowDoesNotMatchSignature() throws SQLException {
+        List<Call> calls = new ArrayList<>();
+        PreparedStatement ps = FakeJdbc.recordingStatement(calls);
+        ParameterBinder binder = ParameterBinder.of(Arrays.asList(1L, null, "a"));
+
+        binder.bind(ps, List.of("b", 2, "c"));
+        binder.bind(ps, List.of(3L, "d"));
+
+        assertEquals(List.of(
+                new Call("setString", 1, "b"), new Call("setInt", 2, 2), new Call("setString", 3, "c"),
+                new Call("setLong", 1, 3L), new Call("setString", 2, "d")), calls);
+    }
+
+    @Test
+    void bindsFromOffset() throws SQLException {
+        List<Call> calls = new ArrayList<>();
+
+        ParameterBinder.of(List.of(1L, "a")).bind(FakeJdbc.recordingStatement(calls), 3, List.of(1L, "a"));
+
+        assertEquals(List.of(new Call("setLong", 4, 1L), new Call("setString", 5, "a")), calls);
+    }
+
+    @Test
+    void reusesBinderForTheSameSignature() {
+        ParameterBinder binder = ParameterBinder.of(List.of(1L, "a", LocalDate.of(2024, 1, 1)));
+
+        assertSame(binder, ParameterBinder.of(List.of(2L, "b", LocalDate.of(2025, 1, 1))));
+        assertNotSame(binder, ParameterBinder.of(List.of(2, "b", LocalDate.of(2025, 1, 1))));
+    }
+
+    @Test
+    void rejectsUnsupportedType() {
+        PreparedStatement ps = FakeJdbc.recordingStatement(new ArrayList<>());
+        List<Object> row = List.of(new StringBuilder("x"));
+
+        assertThrows(IllegalArgumentException.class, () -> ParameterBinder.of(row).bind(ps, row));
+        assertThrows(IllegalArgumentException.class, () -> ParameterBinder.bindValue(ps, 1, new Object()));
+    }
+}
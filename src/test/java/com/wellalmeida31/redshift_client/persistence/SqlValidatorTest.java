@@ -0,0 +1,211 @@
+package com.wellalmeida31.redshift_client.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlValidatorTest {
+
+    private static final List<String> STATEMENTS = List.of(
+            "SELECT * FROM orders",
+            "SELECT id, name FROM orders WHERE id = ?",
+            "select id from orders o join customers c on o.customer_id = c.id",
+            "SELECT id FROM orders ORDER BY id LIMIT 10 OFFSET 20",
+            "SELECT status, COUNT(*) FROM orders GROUP BY status HAVING COUNT(*) > 1",
+            "  SELECT id\nFROM orders\nWHERE id > 10  ",
+            "SELECT id FROM orders;",
+            "SELECT id FROM",
+            "SELECT FROM orders",
+            "SELECTING id FROM orders",
+            "INSERT INTO orders (id, name) VALUES (?, ?)",
+            "INSERT INTO orders SELECT * FROM staging",
+            "UPDATE orders SET status = 2 WHERE id = 1",
+            "DELETE FROM orders WHERE id = 1",
+            "delete from orders",
+            "REFRESH MATERIALIZED VIEW mv_orders",
+            "DROP MATERIALIZED VIEW IF EXISTS mv_orders",
+            "create materialized view mv_orders as select id from orders",
+            "TRUNCATE orders",
+            "",
+            "   ");
+
+    private static final List<String> FRAGMENTS = List.of(
+            "WITH r RECURSIVE",
+            "WITH r\nRECURSIVE",
+            "FULL OUTER JOIN b ON a.id = b.id",
+            "FULL OUTER JOIN b\nON a.id = b.id",
+            "FULL JOIN b ON a.id = b.id",
+            "FETCH FIRST 10 ROWS ONLY",
+            "FETCH FIRST 10\nROWS ONLY",
+            "FETCH NEXT 10 ROWS ONLY",
+            "OFFSET 5 ROWS",
+            "OFFSET 5\nROWS",
+            "WINDOW w AS (PARTITION BY id)",
+            "window_size = 3",
+            "a.window = 3",
+            "LATERAL (SELECT 1)",
+            "QUALIFY ROW_NUMBER() OVER (PARTITION BY id) = 1",
+            "MERGE",
+            "USING staging s ON s.id = t.id",
+            "USING staging s\nON s.id = t.id",
+            "ON CONFLICT DO NOTHING",
+            "RETURNING id",
+            "ARRAY[1, 2]",
+            "array_agg(id)",
+            "GEOMETRY",
+            "VACUUM orders TO 75 PERCENT DELETE",
+            "VACUUM orders\nDELETE");
+
+    /** Instruções simples (sem literais, comentários ou aspas) e cada fragmento acrescentado a elas. */
+    static Stream<String> plainSql() {
+        List<String> corpus = new ArrayList<>(STATEMENTS);
+        for (String statement : STATEMENTS) {
+            for (String fragment : FRAGMENTS) {
+                corpus.add(statement + " " + fragment);
+                corpus.add((statement + " " + fragment).toLowerCase(Locale.ROOT));
+            }
+        }
+        return corpus.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("plainSql")
+    void agreesWithRegexValidatorOnPlainSql(String sql) {
+        assertEquals(RegexValidator.isValidQuery(sql), SqlValidator.isValidQuery(sql), () -> "query: " + sql);
+        assertEquals(RegexValidator.isValidDml(sql), SqlValidator.isValidDml(sql), () -> "dml: " + sql);
+        assertEquals(RegexValidator.isValidMaterializedView(sql), SqlValidator.isValidMaterializedView(sql), () -> "mv: " + sql);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT 'window' AS kind FROM orders",
+            "SELECT * FROM orders WHERE note = 'it''s a lateral move'",
+            "SELECT * FROM orders WHERE note = 'a\\'qualify'",
+            "SELECT * FROM orders WHERE note = 'fetch first 10 rows only'",
+            "SELECT \"qualify\" FROM orders",
+            "SELECT \"with\" || \"recursive\" FROM orders",
+            "SELECT id FROM orders -- window functions removed\nWHERE id > 1",
+            "SELECT id /* with recursive */ FROM orders",
+            "SELECT $$full outer join b on$$ FROM orders",
+            "SELECT $body$ lateral $body$ AS note FROM orders"})
+    void ignoresQueryKeywordsInLiteralsCommentsAndQuotedIdentifiers(String sql) {
+        assertFalse(RegexValidator.isValidQuery(sql), "regex validator rejected it");
+        assertTrue(SqlValidator.isValidQuery(sql));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "INSERT INTO audit (note) VALUES ('merge pending')",
+            "UPDATE orders SET note = 'returning customer' WHERE id = 1",
+            "DELETE FROM orders WHERE note = 'using coupon on checkout'",
+            "INSERT INTO \"array\" (id) VALUES (1)",
+            "UPDATE orders SET status = 2 -- on conflict ignore\nWHERE id = 1",
+            "INSERT INTO shapes (kind) VALUES ($$geometry$$)",
+            "DELETE FROM orders /* vacuum later, then delete */ WHERE id = 1"})
+    void ignoresDmlKeywordsInLiteralsCommentsAndQuotedIdentifiers(String sql) {
+        assertFalse(RegexValidator.isValidDml(sql), "regex validator rejected it");
+        assertTrue(SqlValidator.isValidDml(sql));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT 'x' FROM orders QUALIFY ROW_NUMBER() OVER (PARTITION BY id) = 1",
+            "SELECT \"window\" FROM orders o, LATERAL (SELECT 1) l",
+            "SELECT $$a$$ FROM orders WINDOW w AS (PARTITION BY id)",
+            "SELECT id /* note */ FROM orders FETCH FIRST 10 ROWS ONLY"})
+    void stillRejectsKeywordsOutsideLiterals(String sql) {
+        assertFalse(SqlValidator.isValidQuery(sql));
+    }
+
+    @Test
+    void ellipsisMatchesOnlyWithinTheSameLine() {
+        assertFalse(SqlValidator.isValidQuery("SELECT * FROM a FULL OUTER JOIN b ON a.id = b.id"));
+        assertFalse(SqlValidator.isValidQuery("SELECT * FROM a FULL OUTER JOIN b /* note */ ON a.id = b.id"));
+        assertTrue(SqlValidator.isValidQuery("SELECT * FROM a FULL OUTER JOIN b\nON a.id = b.id"));
+        assertTrue(SqlValidator.isValidQuery("SELECT * FROM a FULL OUTER JOIN b -- note\nON a.id = b.id"));
+        assertTrue(SqlValidator.isValidQuery("SELECT * FROM a FULL OUTER JOIN b /* multi\nline */ ON a.id = b.id"));
+        assertFalse(SqlValidator.isValidDml("DELETE FROM t USING s WHERE s.id = t.id ON"));
+        assertTrue(SqlValidator.isValidDml("DELETE FROM t USING s\nWHERE s.id = t.id AND ON_HOLD"));
+    }
+
+    @Test
+    void wordsWithinOneSegmentMustBeConsecutive() {
+        assertFalse(SqlValidator.isValidQuery("SELECT * FROM a FULL  OUTER\tJOIN b ON a.id = b.id"));
+        assertTrue(SqlValidator.isValidQuery("SELECT * FROM a FULL x OUTER JOIN b ON a.id = b.id"));
+        assertTrue(SqlValidator.isValidQuery("SELECT * FROM t ORDER BY id FETCH FIRST 10 ROWS"));
+        assertFalse(SqlValidator.isValidQuery("SELECT * FROM t ORDER BY id FETCH FIRST 10 ROWS ONLY"));
+        assertTrue(SqlValidator.isValidDml("INSERT INTO t SELECT * FROM s ON 1 = 1 CONFLICT"));
+    }
+
+    @Test
+    void rejectsNull() {
+        assertFalse(SqlValidator.isValidQuery(null));
+        assertFalse(SqlValidator.isValidDml(null));
+        assertFalse(SqlValidator.isValidMaterializedView(null));
+    }
+
+    @Test
+    void countsOnlyPlaceholdersOutsideLiteralsAndComments() {
+        assertEquals(0, SqlValidator.parameterCount("SELECT * FROM t"));
+        assertEquals(2, SqlValidator.parameterCount("SELECT * FROM t WHERE a = ? AND b IN (?)"));
+        assertEquals(1, SqlValidator.parameterCount("SELECT '?', \"?\", $$?$$, $q$ ? $q$ FROM t WHERE a = ?"));
+        assertEquals(1, SqlValidator.parameterCount("SELECT 'it''s ?' FROM t -- ?\nWHERE a = ? /* ? */"));
+        assertEquals(1, SqlValidator.parameterCount("SELECT a$b$ FROM t WHERE c = ?"));
+    }
+
+    /** Validação por expressões regulares que o {@link SqlValidator} substituiu, usada como referência. */
+    private static final class RegexValidator {
+        private static final Pattern DQL = Pattern.compile("^(?i)SELECT\\s+.+\\s+FROM\\s+.+", Pattern.DOTALL);
+        private static final Pattern DML = Pattern.compile("^(?i)(SELECT|INSERT|UPDATE|DELETE)\\s+.*", Pattern.DOTALL);
+        private static final Pattern MV = Pattern.compile("^(?i)(REFRESH|DROP|CREATE)\\s+.*", Pattern.DOTALL);
+        private static final String[] UNSUPPORTED_DQL = {
+                "\\bWITH\\b.*\\bRECURSIVE\\b",
+                "\\bFULL OUTER JOIN\\b.*\\bON\\b",
+                "\\bFETCH FIRST\\b.*\\bROWS ONLY\\b",
+                "\\bOFFSET\\b.*\\bROWS\\b",
+                "\\bWINDOW\\b",
+                "\\bLATERAL\\b",
+                "\\bQUALIFY\\b"
+        };
+        private static final String[] UNSUPPORTED_DML = {
+                "\\bMERGE\\b",
+                "\\bUSING\\b.*\\bON\\b",
+                "\\bON\\b\\s+CONFLICT",
+                "\\bRETURNING\\b",
+                "\\bARRAY\\b",
+                "\\bGEOMETRY\\b",
+                "\\bVACUUM\\b.*\\bDELETE\\b"
+        };
+
+        static boolean isValidQuery(String sql) {
+            return matches(DQL, sql) && supported(UNSUPPORTED_DQL, sql);
+        }
+
+        static boolean isValidDml(String sql) {
+            return matches(DML, sql) && supported(UNSUPPORTED_DML, sql);
+        }
+
+        static boolean isValidMaterializedView(String sql) {
+            return matches(MV, sql);
+        }
+
+        private static boolean matches(Pattern pattern, String sql) {
+            return !sql.trim().isEmpty() && pattern.matcher(sql.trim()).matches();
+        }
+
+        private static boolean supported(String[] unsupported, String sql) {
+            for (String pattern : unsupported)
+                if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(sql).find()) return false;
+            return true;
+        }
+    }
+}